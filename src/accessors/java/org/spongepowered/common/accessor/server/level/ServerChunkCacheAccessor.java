@@ -24,12 +24,19 @@
  */
 package org.spongepowered.common.accessor.server.level;
 
+import com.mojang.datafixers.util.Either;
+import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.DistanceManager;
 import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.ChunkStatus;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Mutable;
 import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import java.util.concurrent.CompletableFuture;
 
 @Mixin(ServerChunkCache.class)
 public interface ServerChunkCacheAccessor {
@@ -38,4 +45,7 @@ public interface ServerChunkCacheAccessor {
 
     @Accessor("distanceManager") DistanceManager accessor$distanceManager();
 
+    @Invoker("getChunkFutureMainThread") CompletableFuture<Either<ChunkAccess, ChunkHolder.ChunkLoadingFailure>> invoker$getChunkFutureMainThread(
+        final int x, final int z, final ChunkStatus status, final boolean load);
+
 }
@@ -22,32 +22,16 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package co.aikar.timings.sponge;
+package org.spongepowered.common.accessor.world.level.chunk.storage;
 
-import org.spongepowered.common.SpongeCommon;
+import net.minecraft.world.level.chunk.storage.ChunkStorage;
+import net.minecraft.world.level.chunk.storage.IOWorker;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
 
-class UnsafeTimingHandler extends TimingHandler {
+@Mixin(ChunkStorage.class)
+public interface ChunkStorageAccessor {
 
-    UnsafeTimingHandler(TimingIdentifier id) {
-        super(id);
-    }
+    @Accessor("worker") IOWorker accessor$worker();
 
-    private static void checkThread() {
-        if (!SpongeCommon.server().isSameThread()) {
-            throw new IllegalStateException("Calling Timings from Async Operation");
-        }
-    }
-
-    @Override
-    public TimingHandler startTiming() {
-        UnsafeTimingHandler.checkThread();
-        super.startTiming();
-        return this;
-    }
-
-    @Override
-    public void stopTiming() {
-        UnsafeTimingHandler.checkThread();
-        super.stopTiming();
-    }
 }
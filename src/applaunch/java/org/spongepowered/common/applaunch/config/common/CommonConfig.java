@@ -97,6 +97,9 @@ public final class CommonConfig implements Config {
     @Setting
     public final TimingsCategory timings = new TimingsCategory();
 
+    @Setting
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting
     public final WorldCategory world = new WorldCategory();
 
@@ -51,4 +51,10 @@ public final class GeneralCategory {
            + "Note: It is not recommended to set this to \"${CANONICAL_CONFIG_DIR}/sponge\", as there is \n"
            + "a possibility that plugin configurations can conflict the Sponge core configurations. \n")
     public TokenHoldingString configDir = TokenHoldingString.of("${CANONICAL_GAME_DIR}/config");
+
+    @Setting("dither-map-images")
+    @Comment("If 'true', images painted onto map canvases by plugins are dithered \n"
+           + "when their colors are not in the map palette, instead of each pixel \n"
+           + "simply being replaced by its closest map color.")
+    public boolean ditherMapImages = false;
 }
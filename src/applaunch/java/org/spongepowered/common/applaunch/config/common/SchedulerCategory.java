@@ -0,0 +1,53 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("async-execution-mode")
+    @Comment(
+        "The kind of threads the async scheduler runs tasks on. Supported values:\n"
+            + "  - PLATFORM: Run tasks on a cached pool of platform threads\n"
+            + "  - VIRTUAL: Run each task on its own virtual thread, if the Java runtime supports them.\n"
+            + "    Falls back to PLATFORM otherwise. Best suited to plugins doing a lot of blocking I/O."
+    )
+    public ExecutionMode asyncExecutionMode = ExecutionMode.PLATFORM;
+
+    @Setting("async-max-concurrent-tasks-per-plugin")
+    @Comment("The maximum number of async tasks a single plugin may have executing at once.\n"
+                 + "Further tasks of that plugin wait in a queue until one finishes. 0 means no limit.")
+    public int asyncMaxConcurrentTasksPerPlugin = 0;
+
+    public enum ExecutionMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+}
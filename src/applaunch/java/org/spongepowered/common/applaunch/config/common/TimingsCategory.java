@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.applaunch.config.common;
 
+import org.spongepowered.configurate.objectmapping.meta.Comment;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -50,4 +51,18 @@ public final class TimingsCategory {
 
     @Setting("history-length")
     public int historyLength = 3600;
+
+    @Setting("local-export")
+    @Comment("If 'true', timings reports are written to the 'timings' directory as JSON along with an offline HTML viewer, \n"
+             + "instead of being uploaded to the timings website.")
+    public boolean localExport = false;
+
+    @Setting("metrics-address")
+    @Comment("The address the timings metrics endpoint listens on.")
+    public String metricsAddress = "127.0.0.1";
+
+    @Setting("metrics-port")
+    @Comment("If above 0, timings are exposed in the OpenMetrics format at 'http://<metrics-address>:<metrics-port>/metrics'. \n"
+             + "Counters are cumulative since the server started and are not affected by timings resets.")
+    public int metricsPort = 0;
 }
@@ -40,6 +40,16 @@ public final class WorldCategory {
                                                           + "Note: 20 ticks is equivalent to 1 second. Set to 0 to disable.")
     public int playerAutoSaveInterval = 6000;
 
+    @Setting(value = "offline-user-saves-per-tick")
+    @Comment("The maximum number of offline users whose data starts saving each tick. (Default: 16) \n"
+                                                                  + "Users left over from an auto-save are saved over the following ticks. \n"
+                                                                  + "Set to 0 or less to save them all at once.")
+    public int offlineUserSavesPerTick = 16;
+
+    @Setting(value = "offline-user-io-threads")
+    @Comment("The number of threads used to load and save the data of offline users. (Default: 2)")
+    public int offlineUserIoThreads = 2;
+
     @Setting(value = "leaf-decay")
     @Comment("If 'true', natural leaf decay is allowed.")
     public boolean leafDecay = true;
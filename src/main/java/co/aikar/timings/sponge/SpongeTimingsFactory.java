@@ -90,6 +90,7 @@ public static TimingHandler ofSafe(String groupName, String name, Timing groupHa
     public TimingsFactory init() {
         final TimingsCategory category = SpongeConfigs.getCommon().get().timings;
         TimingsManager.privacy = category.serverNamePrivacy;
+        TimingsManager.localExport = category.localExport;
         TimingsManager.hiddenConfigs.addAll(category.hiddenConfigEntries);
         this.setVerboseTimingsEnabled(category.verbose);
         this.setTimingsEnabled(this.moduleEnabled && category.enabled);
@@ -100,9 +101,16 @@ public TimingsFactory init() {
                 " - Verbose: " + this.verboseEnabled +
                 " - Interval: " + SpongeTimingsFactory.timeSummary(this.historyInterval / 20) +
                 " - Length: " + SpongeTimingsFactory.timeSummary(this.historyLength / 20));
+        if (this.moduleEnabled && category.metricsPort > 0) {
+            TimingsMetricsServer.start(category.metricsAddress, category.metricsPort);
+        }
         return this;
     }
 
+    public void shutdown() {
+        TimingsMetricsServer.stop();
+    }
+
     @Override
     public Timing of(PluginContainer plugin, String name, @Nullable Timing groupHandler) {
         return TimingsManager.getHandler(plugin.metadata().id(), name, groupHandler, true);
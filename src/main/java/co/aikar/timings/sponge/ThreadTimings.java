@@ -0,0 +1,171 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings.sponge;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Timing stack and accumulation buckets of a thread other than the server
+ * thread. Every thread only ever writes to its own buckets, which the server
+ * thread merges into the {@link TimingHandler}s at the start of each
+ * {@link TimingsManager#tick()}, so timing async work never takes a lock.
+ */
+final class ThreadTimings {
+
+    private static final ThreadLocal<ThreadTimings> CURRENT = ThreadLocal.withInitial(ThreadTimings::new);
+
+    /**
+     * All buckets of all threads, only added to by their owning thread and
+     * otherwise only touched by the server thread.
+     */
+    private static final Queue<Bucket> BUCKETS = new ConcurrentLinkedQueue<>();
+
+    private final WeakReference<Thread> thread = new WeakReference<>(Thread.currentThread());
+    private final Map<TimingHandler, Frame> frames = new IdentityHashMap<>();
+    private final Long2ObjectOpenHashMap<Bucket> buckets = new Long2ObjectOpenHashMap<>();
+    private @Nullable TimingHandler current;
+
+    static ThreadTimings get() {
+        return ThreadTimings.CURRENT.get();
+    }
+
+    void start(TimingHandler handler) {
+        Frame frame = this.frames.get(handler);
+        if (frame == null) {
+            frame = new Frame();
+            this.frames.put(handler, frame);
+        }
+        if (++frame.depth == 1) {
+            frame.start = System.nanoTime();
+            frame.parent = this.current;
+            this.current = handler;
+        }
+    }
+
+    void stop(TimingHandler handler) {
+        final Frame frame = this.frames.get(handler);
+        if (frame == null) {
+            return;
+        }
+        if (--frame.depth > 0) {
+            return;
+        }
+        this.frames.remove(handler);
+        if (frame.start == 0) {
+            return;
+        }
+
+        final long diff = System.nanoTime() - frame.start;
+        @Nullable TimingHandler parent = null;
+        if (this.current == handler) {
+            this.current = frame.parent;
+            parent = frame.parent;
+        }
+
+        final long key = (long) handler.id << 32 | (parent == null ? 0 : parent.id);
+        Bucket bucket = this.buckets.get(key);
+        if (bucket == null) {
+            bucket = new Bucket(this.thread, handler, parent);
+            this.buckets.put(key, bucket);
+            ThreadTimings.BUCKETS.add(bucket);
+        }
+        bucket.add(diff);
+    }
+
+    void abort(TimingHandler handler) {
+        final Frame frame = this.frames.get(handler);
+        if (frame != null) {
+            frame.start = 0;
+        }
+    }
+
+    /**
+     * Merges everything timed off the server thread since the last call into
+     * the handlers' current tick. Must be called from the server thread.
+     */
+    static void mergeAll() {
+        for (Iterator<Bucket> it = ThreadTimings.BUCKETS.iterator(); it.hasNext(); ) {
+            final Bucket bucket = it.next();
+            // The owner updates the time before the count, so reading the count first
+            // guarantees the time covers at least as many samples
+            final long count = bucket.count;
+            final long totalTime = bucket.totalTime;
+            final int countDiff = (int) (count - bucket.mergedCount);
+            if (countDiff > 0) {
+                bucket.handler.addAsyncDiff(bucket.parent, countDiff, totalTime - bucket.mergedTotalTime);
+                bucket.mergedCount = count;
+                bucket.mergedTotalTime = totalTime;
+            }
+
+            final Thread thread = bucket.thread.get();
+            if (thread == null || !thread.isAlive()) {
+                if (bucket.count == bucket.mergedCount) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private static final class Frame {
+
+        int depth;
+        long start;
+        @Nullable TimingHandler parent;
+    }
+
+    private static final class Bucket {
+
+        final WeakReference<Thread> thread;
+        final TimingHandler handler;
+        final @Nullable TimingHandler parent;
+
+        // Only written by the owning thread
+        volatile long totalTime;
+        volatile long count;
+
+        // Only touched by the server thread
+        long mergedTotalTime;
+        long mergedCount;
+
+        Bucket(WeakReference<Thread> thread, TimingHandler handler, @Nullable TimingHandler parent) {
+            this.thread = thread;
+            this.handler = handler;
+            this.parent = parent;
+        }
+
+        void add(long diff) {
+            this.totalTime += diff;
+            this.count++;
+        }
+    }
+}
@@ -68,6 +68,11 @@ void add(long diff) {
         this.curTickTotal += diff;
     }
 
+    void add(int count, long diff) {
+        this.curTickCount += count;
+        this.curTickTotal += diff;
+    }
+
     void processTick(boolean violated) {
         this.totalTime += this.curTickTotal;
         this.count += this.curTickCount;
@@ -27,6 +27,7 @@
 import co.aikar.timings.Timing;
 import co.aikar.timings.Timings;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeCommon;
 import co.aikar.timings.util.LoadingIntMap;
@@ -37,11 +38,15 @@ class TimingHandler implements Timing {
     final int id = TimingHandler.idPool++;
 
     final String name;
+    final String group;
     private final boolean verbose;
+    // Whether this handler records work done off the server thread, see asyncHandler
+    final boolean async;
 
     final Int2ObjectOpenHashMap<TimingData> children = new LoadingIntMap<>(TimingData::new);
 
     final TimingData record;
+    final TimingMetrics metrics = new TimingMetrics();
     private final TimingHandler groupHandler;
 
     private long start = 0;
@@ -50,6 +55,7 @@ class TimingHandler implements Timing {
     protected boolean timed;
     protected boolean enabled;
     private TimingHandler parent;
+    private volatile @Nullable TimingHandler asyncHandler;
 
     TimingHandler(TimingIdentifier id) {
         if (id.name.startsWith("##")) {
@@ -59,6 +65,8 @@ class TimingHandler implements Timing {
             this.name = id.name;
             this.verbose = false;
         }
+        this.group = id.group;
+        this.async = id.async;
 
         this.record = new TimingData(this.id);
         this.groupHandler = id.groupHandler;
@@ -78,32 +86,63 @@ void processTick(boolean violated) {
             return;
         }
 
-        this.record.processTick(violated);
+        // Async work doesn't run within the tick, so it can't be the reason it lagged
+        final boolean lagging = violated && !this.async;
+        if (TimingsManager.metricsEnabled) {
+            this.metrics.record(this.record.curTickCount, this.record.curTickTotal, lagging);
+        }
+        this.record.processTick(lagging);
         for (TimingData handler : this.children.values()) {
-            handler.processTick(violated);
+            handler.processTick(lagging);
         }
     }
 
+    /**
+     * Gets the handler which records the work timed by this handler off the
+     * server thread. It is named after this handler with an "(async)" suffix
+     * and belongs to the async handler of this handler's group handler, so
+     * async work never adds to the time of the server's ticks.
+     *
+     * @return The async handler
+     */
+    TimingHandler asyncHandler() {
+        if (this.async) {
+            return this;
+        }
+        TimingHandler handler = this.asyncHandler;
+        if (handler == null) {
+            handler = TimingsManager.getAsyncHandler(this.group, (this.verbose ? "## " : "") + this.name + " (async)",
+                    this.groupHandler == null ? null : this.groupHandler.asyncHandler());
+            this.asyncHandler = handler;
+        }
+        return handler;
+    }
+
+    /**
+     * Timings are no longer limited to the server thread, async calls are
+     * recorded through {@link ThreadTimings} under the
+     * {@link #asyncHandler() async handler} and merged on the next tick.
+     */
     @Override
     public void startTimingIfSync() {
-        if (!this.enabled) {
+        if (!this.enabled || !Sponge.isServerAvailable()) {
             return;
         }
 
-        if (Sponge.isServerAvailable() && SpongeCommon.server().isSameThread()) {
-            this.startTiming();
-        }
+        this.startTiming();
     }
 
     @Override
     public void stopTimingIfSync() {
-        if (!this.enabled) {
+        if (!this.enabled || !Sponge.isServerAvailable()) {
             return;
         }
 
-        if (Sponge.isServerAvailable() && SpongeCommon.server().isSameThread()) {
-            this.stopTiming();
-        }
+        this.stopTiming();
+    }
+
+    private static boolean isAsync() {
+        return Sponge.isServerAvailable() && !SpongeCommon.server().isSameThread();
     }
 
     @Override
@@ -112,6 +151,11 @@ public TimingHandler startTiming() {
             return this;
         }
 
+        if (TimingHandler.isAsync()) {
+            ThreadTimings.get().start(this.asyncHandler());
+            return this;
+        }
+
         if (++this.timingDepth == 1) {
             this.start = System.nanoTime();
             this.parent = TimingsManager.CURRENT;
@@ -127,6 +171,11 @@ public void stopTiming() {
             return;
         }
 
+        if (TimingHandler.isAsync()) {
+            ThreadTimings.get().stop(this.asyncHandler());
+            return;
+        }
+
         if (--this.timingDepth == 0 && this.start != 0) {
             this.addDiff(System.nanoTime() - this.start);
             this.start = 0;
@@ -135,6 +184,10 @@ public void stopTiming() {
 
     @Override
     public void abort() {
+        if (this.enabled && TimingHandler.isAsync()) {
+            ThreadTimings.get().abort(this.asyncHandler());
+            return;
+        }
         if (this.enabled && this.timingDepth > 0) {
             this.start = 0;
         }
@@ -159,6 +212,27 @@ void addDiff(long diff) {
         }
     }
 
+    /**
+     * Adds time recorded off the server thread to this async handler,
+     * mirroring {@link #addDiff}. Only called from the server thread by
+     * {@link ThreadTimings#mergeAll()}.
+     */
+    void addAsyncDiff(TimingHandler parent, int count, long diff) {
+        if (parent != null) {
+            parent.children.get(this.id).add(count, diff);
+        }
+        this.record.add(count, diff);
+        if (!this.added) {
+            this.added = true;
+            this.timed = true;
+            TimingsManager.HANDLERS.add(this);
+        }
+        if (this.groupHandler != null) {
+            this.groupHandler.addAsyncDiff(null, count, diff);
+            this.groupHandler.children.get(this.id).add(count, diff);
+        }
+    }
+
     /**
      * Reset this timer, setting all values to zero.
      */
@@ -49,13 +49,19 @@ final class TimingIdentifier {
     final String name;
     final TimingHandler groupHandler;
     final boolean protect;
+    final boolean async;
     private final int hashCode;
 
     TimingIdentifier(String group, String name, Timing groupHandler, boolean protect) {
+        this(group, name, groupHandler, protect, false);
+    }
+
+    TimingIdentifier(String group, String name, Timing groupHandler, boolean protect, boolean async) {
         this.group = group != null ? group.intern() : TimingIdentifier.DEFAULT_GROUP.name;
         this.name = name.intern();
         this.groupHandler = groupHandler instanceof TimingHandler ? (TimingHandler) groupHandler : null;
         this.protect = protect;
+        this.async = async;
         this.hashCode = (31 * this.group.hashCode()) + this.name.hashCode();
     }
 
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings.sponge;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cumulative counters for a {@link TimingHandler} that, unlike its
+ * {@link TimingData}, are never reset. Only written to by the server thread
+ * and read by the metrics endpoint, which may observe slightly stale values.
+ */
+final class TimingMetrics {
+
+    /**
+     * Upper bounds, in nanoseconds, of the per tick duration histogram.
+     */
+    static final long[] BUCKETS = {
+            100_000L, 500_000L, 1_000_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L, 100_000_000L, 250_000_000L, 1_000_000_000L
+    };
+
+    static final int COUNT = 0;
+    static final int TOTAL_TIME = 1;
+    static final int LAG_COUNT = 2;
+    static final int LAG_TOTAL_TIME = 3;
+    static final int TICKS = 4;
+
+    private final AtomicLongArray totals = new AtomicLongArray(5);
+    private final AtomicLongArray buckets = new AtomicLongArray(TimingMetrics.BUCKETS.length);
+
+    void record(int count, long time, boolean violated) {
+        this.increment(this.totals, TimingMetrics.COUNT, count);
+        this.increment(this.totals, TimingMetrics.TOTAL_TIME, time);
+        this.increment(this.totals, TimingMetrics.TICKS, 1);
+        if (violated) {
+            this.increment(this.totals, TimingMetrics.LAG_COUNT, count);
+            this.increment(this.totals, TimingMetrics.LAG_TOTAL_TIME, time);
+        }
+        for (int i = 0; i < TimingMetrics.BUCKETS.length; i++) {
+            if (time <= TimingMetrics.BUCKETS[i]) {
+                this.increment(this.buckets, i, 1);
+                break;
+            }
+        }
+    }
+
+    private void increment(AtomicLongArray array, int index, long amount) {
+        // Single writer, a lazy set is enough to publish without tearing
+        array.lazySet(index, array.get(index) + amount);
+    }
+
+    long get(int index) {
+        return this.totals.get(index);
+    }
+
+    /**
+     * Gets the number of ticks that took at most the given bucket's bound.
+     */
+    long getCumulativeBucket(int bucket) {
+        long count = 0;
+        for (int i = 0; i <= bucket; i++) {
+            count += this.buckets.get(i);
+        }
+        return count;
+    }
+}
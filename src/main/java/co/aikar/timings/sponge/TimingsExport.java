@@ -62,6 +62,11 @@
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -72,6 +77,7 @@ class TimingsExport extends Thread {
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
     private static final Joiner RUNTIME_FLAG_JOINER = Joiner.on(" ");
     private static final Joiner CONFIG_PATH_JOINER = Joiner.on(".");
+    private static final DateTimeFormatter REPORT_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
 
     private final TimingsReportListener listeners;
     private final JsonObject out;
@@ -297,6 +303,58 @@ public synchronized void start() {
     public void run() {
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (TimingsManager.localExport) {
+            this.writeReport();
+        } else {
+            this.uploadReport();
+        }
+    }
+
+    /**
+     * Writes the report next to the server as raw JSON, along with a static
+     * HTML viewer which embeds it so it can be opened without any network.
+     */
+    private void writeReport() {
+        String reportLocation = null;
+        try {
+            final Path directory = SpongeCommon.gameDirectory().resolve("timings");
+            Files.createDirectories(directory);
+
+            final String name = "timings-" + TimingsExport.REPORT_NAME_FORMAT.format(LocalDateTime.now());
+            final String json = JSONUtil.toString(this.out);
+            Files.write(directory.resolve(name + ".json"), json.getBytes(StandardCharsets.UTF_8));
+
+            final Path viewer = directory.resolve(name + ".html");
+            // Escape closing tags so the report can never break out of its script element
+            Files.write(viewer, TimingsExport.loadViewerTemplate().replace("{{TIMINGS_DATA}}", json.replace("</", "<\\/"))
+                    .getBytes(StandardCharsets.UTF_8));
+
+            reportLocation = viewer.toAbsolutePath().toString();
+            this.listeners.send(Component.text("Timings report written to " + reportLocation, NamedTextColor.GREEN));
+        } catch (IOException ex) {
+            this.listeners.send(Component.text("Error writing timings, check your logs for more information", NamedTextColor.RED));
+            SpongeCommon.logger().error("Could not write timings report", ex);
+        } finally {
+            this.listeners.done(reportLocation);
+        }
+    }
+
+    private static String loadViewerTemplate() throws IOException {
+        try (InputStream in = TimingsExport.class.getResourceAsStream("timings-viewer.html")) {
+            if (in == null) {
+                throw new IOException("Missing timings-viewer.html");
+            }
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            final byte[] b = new byte[4096];
+            int bytesRead;
+            while ((bytesRead = in.read(b)) != -1) {
+                bos.write(b, 0, bytesRead);
+            }
+            return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void uploadReport() {
         String response = null;
         String timingsURL = null;
         try {
@@ -29,21 +29,19 @@
 import com.google.common.collect.EvictingQueue;
 import org.spongepowered.api.command.manager.CommandMapping;
 import org.spongepowered.common.SpongeCommon;
-import co.aikar.timings.util.LoadingMap;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class TimingsManager {
 
-    static final Map<TimingIdentifier, TimingHandler> TIMING_MAP = Collections.synchronizedMap(
-            LoadingMap.newHashMap((id) -> (id.protect ? new UnsafeTimingHandler(id) : new TimingHandler(id)), 256, .5F));
+    static final Map<TimingIdentifier, TimingHandler> TIMING_MAP = new ConcurrentHashMap<>(256, .5F);
     public static final FullServerTickHandler FULL_SERVER_TICK = new FullServerTickHandler();
     public static final TimingHandler TIMINGS_TICK = SpongeTimingsFactory.ofSafe("Timings Tick", TimingsManager.FULL_SERVER_TICK);
     public static final Timing MOD_EVENT_HANDLER = SpongeTimingsFactory.ofSafe("Mod Events");
@@ -51,6 +49,8 @@ public final class TimingsManager {
     public static final Timing PLUGIN_EVENT_HANDLER = SpongeTimingsFactory.ofSafe("Plugin Events");
     public static List<String> hiddenConfigs = new ArrayList<>();
     public static boolean privacy = false;
+    static boolean localExport = false;
+    static boolean metricsEnabled = false;
 
     static final Collection<TimingHandler> HANDLERS = new ArrayDeque<>();
     static final ArrayDeque<TimingHistory.MinuteReport> MINUTE_REPORTS = new ArrayDeque<>();
@@ -77,6 +77,7 @@ static void reset() {
      */
     static void tick() {
         if (Timings.isTimingsEnabled()) {
+            ThreadTimings.mergeAll();
             boolean violated = TimingsManager.FULL_SERVER_TICK.isViolated();
 
             for (TimingHandler handler : TimingsManager.HANDLERS) {
@@ -99,10 +100,8 @@ static void stopServer() {
     }
 
     static void recheckEnabled() {
-        synchronized (TimingsManager.TIMING_MAP) {
-            for (TimingHandler timings : TimingsManager.TIMING_MAP.values()) {
-                timings.checkEnabled();
-            }
+        for (TimingHandler timings : TimingsManager.TIMING_MAP.values()) {
+            timings.checkEnabled();
         }
         TimingsManager.needsRecheckEnabled = false;
     }
@@ -110,11 +109,8 @@ static void recheckEnabled() {
     static void resetTimings() {
         if (TimingsManager.needsFullReset) {
             // Full resets need to re-check every handlers enabled state
-            // Timing map can be modified from async so we must sync on it.
-            synchronized (TimingsManager.TIMING_MAP) {
-                for (TimingHandler timings : TimingsManager.TIMING_MAP.values()) {
-                    timings.reset(true);
-                }
+            for (TimingHandler timings : TimingsManager.TIMING_MAP.values()) {
+                timings.reset(true);
             }
             if (TimingsManager.timingStart != 0) {
                 SpongeCommon.logger().info("Timings reset");
@@ -139,6 +135,26 @@ static void resetTimings() {
     }
 
     static TimingHandler getHandler(String group, String name, Timing parent, boolean protect) {
-        return TimingsManager.TIMING_MAP.get(new TimingIdentifier(group, name, parent, protect));
+        return TimingsManager.getHandler(new TimingIdentifier(group, name, parent, protect));
+    }
+
+    /**
+     * Gets the handler recording work done off the server thread, which is
+     * kept apart from the handlers of the server's ticks.
+     */
+    static TimingHandler getAsyncHandler(String group, String name, Timing parent) {
+        return TimingsManager.getHandler(new TimingIdentifier(group, name, parent, false, true));
+    }
+
+    private static TimingHandler getHandler(TimingIdentifier id) {
+        final TimingHandler handler = TimingsManager.TIMING_MAP.get(id);
+        if (handler != null) {
+            return handler;
+        }
+        // Creating a handler registers it in its group and takes ids from
+        // pools that are not thread safe, so only creation is serialized.
+        synchronized (TimingsManager.TIMING_MAP) {
+            return TimingsManager.TIMING_MAP.computeIfAbsent(id, TimingHandler::new);
+        }
     }
 }
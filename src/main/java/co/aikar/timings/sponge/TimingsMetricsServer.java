@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings.sponge;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the cumulative {@link TimingMetrics} of every handler in the
+ * OpenMetrics text format. Scrapes only read the live counters, they never
+ * reset nor copy the timings history.
+ */
+final class TimingsMetricsServer {
+
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final double NANOS_PER_SECOND = 1E9;
+
+    private static @Nullable HttpServer server;
+    private static @Nullable ExecutorService executor;
+
+    private TimingsMetricsServer() {
+    }
+
+    static synchronized void start(String address, int port) {
+        if (TimingsMetricsServer.server != null) {
+            return;
+        }
+        try {
+            final HttpServer server = HttpServer.create(new InetSocketAddress(address, port), 0);
+            final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge-Timings-Metrics")
+                    .setDaemon(true)
+                    .build());
+            server.setExecutor(executor);
+            server.createContext("/metrics", TimingsMetricsServer::handle);
+            server.start();
+            TimingsMetricsServer.server = server;
+            TimingsMetricsServer.executor = executor;
+            TimingsManager.metricsEnabled = true;
+            SpongeCommon.logger().info("Serving timings metrics on http://{}:{}/metrics", address, port);
+        } catch (IOException e) {
+            SpongeCommon.logger().error("Could not start the timings metrics endpoint on {}:{}", address, port, e);
+        }
+    }
+
+    static synchronized void stop() {
+        TimingsManager.metricsEnabled = false;
+        if (TimingsMetricsServer.server != null) {
+            TimingsMetricsServer.server.stop(0);
+            TimingsMetricsServer.server = null;
+        }
+        if (TimingsMetricsServer.executor != null) {
+            TimingsMetricsServer.executor.shutdownNow();
+            TimingsMetricsServer.executor = null;
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            final byte[] body = TimingsMetricsServer.render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", TimingsMetricsServer.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    static String render() {
+        final List<TimingHandler> handlers = new ArrayList<>();
+        for (TimingHandler handler : TimingsManager.TIMING_MAP.values()) {
+            if (handler.metrics.get(TimingMetrics.TICKS) > 0) {
+                handlers.add(handler);
+            }
+        }
+
+        final StringBuilder out = new StringBuilder(handlers.size() * 1024);
+        out.append("# TYPE sponge_timings_tick_duration_seconds histogram\n")
+                .append("# UNIT sponge_timings_tick_duration_seconds seconds\n")
+                .append("# HELP sponge_timings_tick_duration_seconds Time spent in a handler during each tick it ran in.\n");
+        for (TimingHandler handler : handlers) {
+            final String labels = TimingsMetricsServer.labels(handler);
+            // Read the buckets before the tick count so the +Inf bucket is never smaller than the others
+            for (int i = 0; i < TimingMetrics.BUCKETS.length; i++) {
+                out.append("sponge_timings_tick_duration_seconds_bucket{").append(labels).append(",le=\"")
+                        .append(TimingMetrics.BUCKETS[i] / TimingsMetricsServer.NANOS_PER_SECOND).append("\"} ")
+                        .append(handler.metrics.getCumulativeBucket(i)).append('\n');
+            }
+            final long ticks = handler.metrics.get(TimingMetrics.TICKS);
+            out.append("sponge_timings_tick_duration_seconds_bucket{").append(labels).append(",le=\"+Inf\"} ").append(ticks).append('\n');
+            out.append("sponge_timings_tick_duration_seconds_count{").append(labels).append("} ").append(ticks).append('\n');
+            out.append("sponge_timings_tick_duration_seconds_sum{").append(labels).append("} ")
+                    .append(handler.metrics.get(TimingMetrics.TOTAL_TIME) / TimingsMetricsServer.NANOS_PER_SECOND).append('\n');
+        }
+
+        TimingsMetricsServer.counter(out, handlers, "sponge_timings_calls", "Number of times a handler was timed.",
+                TimingMetrics.COUNT, false);
+        TimingsMetricsServer.counter(out, handlers, "sponge_timings_lag_calls", "Number of times a handler was timed during a tick over 50ms.",
+                TimingMetrics.LAG_COUNT, false);
+        TimingsMetricsServer.counter(out, handlers, "sponge_timings_lag_seconds", "Time spent in a handler during ticks over 50ms.",
+                TimingMetrics.LAG_TOTAL_TIME, true);
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    private static void counter(StringBuilder out, List<TimingHandler> handlers, String name, String help, int index, boolean seconds) {
+        out.append("# TYPE ").append(name).append(" counter\n");
+        if (seconds) {
+            out.append("# UNIT ").append(name).append(" seconds\n");
+        }
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        for (TimingHandler handler : handlers) {
+            out.append(name).append("_total{").append(TimingsMetricsServer.labels(handler)).append("} ");
+            if (seconds) {
+                out.append(handler.metrics.get(index) / TimingsMetricsServer.NANOS_PER_SECOND);
+            } else {
+                out.append(handler.metrics.get(index));
+            }
+            out.append('\n');
+        }
+    }
+
+    private static String labels(TimingHandler handler) {
+        return "group=\"" + TimingsMetricsServer.escape(handler.group) + "\",name=\"" + TimingsMetricsServer.escape(handler.name) + '"';
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -207,6 +207,9 @@ public void callStoppingEngineEvent(final Engine engine) {
             if (profileManager != null) {
                 profileManager.close();
             }
+            ((SpongeServer) engine).getUsernameCache().close();
+            ((SpongeServer) engine).worldManager().shutdown();
+            ((SpongeTimingsFactory) this.game.factoryProvider().provide(TimingsFactory.class)).shutdown();
         }
     }
 
@@ -0,0 +1,217 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.adventure;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identified;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundChatPacket;
+import net.minecraft.network.protocol.game.ClientboundSetTitlesPacket;
+import net.minecraft.server.level.ServerPlayer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.network.ConnectionAccessor;
+import org.spongepowered.common.bridge.network.protocol.game.LocalizedPacketBridge;
+import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ForwardingAudience} that sends chat, action bar and title
+ * broadcasts to all of its players as a single packet, rendered and encoded
+ * once per locale among them instead of once per player. Any audience that
+ * is not a player receives the message as usual.
+ */
+public final class BroadcastAudience implements ForwardingAudience {
+
+    private final Supplier<Iterable<? extends Audience>> audiences;
+
+    public BroadcastAudience(final Supplier<Iterable<? extends Audience>> audiences) {
+        this.audiences = audiences;
+    }
+
+    @Override
+    public @NonNull Iterable<? extends Audience> audiences() {
+        return this.audiences.get();
+    }
+
+    @Override
+    public void sendMessage(final @NonNull Identified source, final @NonNull Component message, final @NonNull MessageType type) {
+        this.sendMessage(source.identity(), message, type);
+    }
+
+    @Override
+    public void sendMessage(final @NonNull Identity source, final @NonNull Component message, final @NonNull MessageType type) {
+        BroadcastAudience.sendMessage(this.audiences(), source, message, type);
+    }
+
+    @Override
+    public void sendActionBar(final @NonNull Component message) {
+        BroadcastAudience.sendActionBar(this.audiences(), message);
+    }
+
+    @Override
+    public void showTitle(final @NonNull Title title) {
+        BroadcastAudience.showTitle(this.audiences(), title);
+    }
+
+    public static void sendMessage(final Iterable<? extends Audience> audiences, final Identity source, final Component message,
+            final MessageType type) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(message, "message");
+        Objects.requireNonNull(type, "type");
+        final List<ServerPlayer> players = new ArrayList<>();
+        final List<Audience> others = BroadcastAudience.splitPlayers(audiences, players);
+        if (!players.isEmpty()) {
+            BroadcastAudience.broadcast(players, new ClientboundChatPacket(SpongeAdventure.asVanilla(message), SpongeAdventure.asVanilla(type),
+                    source.uuid()));
+        }
+        for (final Audience audience : others) {
+            audience.sendMessage(source, message, type);
+        }
+    }
+
+    public static void sendActionBar(final Iterable<? extends Audience> audiences, final Component message) {
+        Objects.requireNonNull(message, "message");
+        final List<ServerPlayer> players = new ArrayList<>();
+        final List<Audience> others = BroadcastAudience.splitPlayers(audiences, players);
+        if (!players.isEmpty()) {
+            BroadcastAudience.broadcast(players, new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.ACTIONBAR,
+                    SpongeAdventure.asVanilla(message)));
+        }
+        for (final Audience audience : others) {
+            audience.sendActionBar(message);
+        }
+    }
+
+    public static void showTitle(final Iterable<? extends Audience> audiences, final Title title) {
+        Objects.requireNonNull(title, "title");
+        final List<ServerPlayer> players = new ArrayList<>();
+        final List<Audience> others = BroadcastAudience.splitPlayers(audiences, players);
+        if (!players.isEmpty()) {
+            final Title.@Nullable Times times = title.times();
+            if (times != null) {
+                BroadcastAudience.broadcast(players, new ClientboundSetTitlesPacket(BroadcastAudience.durationToTicks(times.fadeIn()),
+                        BroadcastAudience.durationToTicks(times.stay()), BroadcastAudience.durationToTicks(times.fadeOut())));
+            }
+            BroadcastAudience.broadcast(players, new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.SUBTITLE,
+                    SpongeAdventure.asVanilla(title.subtitle())));
+            BroadcastAudience.broadcast(players, new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.TITLE,
+                    SpongeAdventure.asVanilla(title.title())));
+        }
+        for (final Audience audience : others) {
+            audience.showTitle(title);
+        }
+    }
+
+    /**
+     * Sends the same packet to every given player, encoding it up front once
+     * per distinct locale among them if it supports it.
+     *
+     * @param players The players to send the packet to
+     * @param packet The packet
+     */
+    public static void broadcast(final List<ServerPlayer> players, final Packet<?> packet) {
+        BroadcastAudience.preEncode(players, packet);
+        for (final ServerPlayer player : players) {
+            player.connection.send(packet);
+        }
+    }
+
+    /**
+     * Encodes the packet once for each distinct locale among the players it
+     * is about to be sent to, if it supports it.
+     *
+     * @param players The players the packet will be sent to
+     * @param packet The packet
+     */
+    public static void preEncode(final List<? extends ServerPlayer> players, final Packet<?> packet) {
+        if (!(packet instanceof LocalizedPacketBridge) || players.size() < 2) {
+            return;
+        }
+        final Set<@Nullable Locale> locales = new HashSet<>();
+        for (final ServerPlayer player : players) {
+            if (!BroadcastAudience.isConnected(player)) {
+                continue;
+            }
+            final @Nullable Locale locale = BroadcastAudience.locale(player);
+            if (locales.add(locale)) {
+                ((LocalizedPacketBridge) packet).bridge$preEncode(locale);
+            }
+        }
+    }
+
+    /**
+     * Gets the locale the packet encoder of the player's connection uses.
+     */
+    private static @Nullable Locale locale(final ServerPlayer player) {
+        return ((ConnectionAccessor) player.connection.connection).accessor$channel().attr(SpongeAdventure.CHANNEL_LOCALE).get();
+    }
+
+    /**
+     * Moves every connected player within the given audiences to the players
+     * list, returning all other audiences.
+     */
+    private static List<Audience> splitPlayers(final Iterable<? extends Audience> audiences, final List<ServerPlayer> players) {
+        final List<Audience> others = new ArrayList<>();
+        for (final Audience audience : audiences) {
+            for (final Audience unpacked : SpongeAdventure.unpackAudiences(audience)) {
+                if (!(unpacked instanceof ServerPlayer)) {
+                    others.add(unpacked);
+                    continue;
+                }
+                final ServerPlayer player = (ServerPlayer) unpacked;
+                if (BroadcastAudience.isConnected(player)) {
+                    players.add(player);
+                }
+            }
+        }
+        return others;
+    }
+
+    /**
+     * Gets whether the player is a real player with a connection that
+     * packets can be sent to.
+     */
+    private static boolean isConnected(final ServerPlayer player) {
+        return !((PlatformEntityBridge) player).bridge$isFakePlayer() && player.connection != null;
+    }
+
+    public static int durationToTicks(final Duration duration) {
+        return (int) (duration.toMillis() / 50L);
+    }
+}
@@ -77,7 +77,9 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
     private final BlockState blockState;
     private final ResourceKey worldKey;
     private final Vector3i pos;
-    final @Nullable CompoundTag compound;
+    private @Nullable CompoundTag compound;
+    // The block entity to save the compound from once it is first needed
+    private @Nullable WeakReference<BlockEntity> deferredBlockEntity;
     // Internal use only
     private final BlockPos blockPos;
     private final SpongeBlockChangeFlag changeFlag;
@@ -90,6 +92,10 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
         this.pos = Objects.requireNonNull(builder.coordinates);
         this.blockPos = VecHelper.toBlockPos(this.pos);
         this.compound = builder.compound;
+        if (builder.deferredBlockEntity != null) {
+            this.deferredBlockEntity = new WeakReference<>(builder.deferredBlockEntity);
+            builder.deferredBlockEntity = null;
+        }
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
         builder.worldRef = null;
@@ -163,17 +169,19 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
 //            if (current.getBlock().getClass() == BlockShulkerBox.class) {
 //                world.bridge$removeTileEntity(pos);
 //            }
+            // Resolve any deferred data before the current block entity is removed
+            final @Nullable CompoundTag compound = this.compound();
             world.removeBlockEntity(pos);
             world.setBlock(pos, replaced, BlockChangeFlagManager.andNotifyClients(flag).getRawFlag());
-            if (this.compound != null) {
+            if (compound != null) {
                 @Nullable BlockEntity te = world.getBlockEntity(pos);
                 if (te != null) {
-                    te.load((net.minecraft.world.level.block.state.BlockState) this.blockState, this.compound);
+                    te.load((net.minecraft.world.level.block.state.BlockState) this.blockState, compound);
                 } else {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
-                        te = BlockEntity.loadStatic((net.minecraft.world.level.block.state.BlockState) this.blockState, this.compound);
+                        te = BlockEntity.loadStatic((net.minecraft.world.level.block.state.BlockState) this.blockState, compound);
                         if (te != null) {
                             world.getChunk(pos).setBlockEntity(pos, te);
                         }
@@ -187,7 +195,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                             .add("Here's the provided compound:");
                         printer.add();
                         try {
-                            printer.addWrapped(80, "%s : %s", "This compound", this.compound);
+                            printer.addWrapped(80, "%s : %s", "This compound", compound);
                         } catch (Throwable error) {
                             printer.addWrapped(
                                 80,
@@ -263,12 +271,43 @@ public DataContainer toContainer() {
                 .set(Queries.POSITION_Z, this.pos.z())
                 .container()
                 .set(Constants.Block.BLOCK_STATE, this.blockState);
-        if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(this.compound));
+        if (this.compound() != null) {
+            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.wrap(this.compound()));
         }
         return container;
     }
 
+    /**
+     * Gets the saved block entity data of this snapshot. If the data was
+     * deferred, the block entity is saved now.
+     *
+     * @return The block entity data, if any
+     */
+    @Nullable CompoundTag compound() {
+        if (this.deferredBlockEntity != null) {
+            final @Nullable BlockEntity blockEntity = this.deferredBlockEntity.get();
+            this.deferredBlockEntity = null;
+            if (blockEntity != null) {
+                final CompoundTag compound = new CompoundTag();
+                try {
+                    blockEntity.save(compound);
+                    this.compound = compound;
+                } catch (final Throwable t) {
+                    // ignore
+                }
+            }
+        }
+        return this.compound;
+    }
+
+    /**
+     * Saves the deferred block entity data of this snapshot, if any. Must be
+     * called before the block entity is destroyed or replaced.
+     */
+    public void captureBlockEntityData() {
+        this.compound();
+    }
+
     public Optional<ServerLevel> getServerWorld() {
         @Nullable ServerLevel world = this.world != null ? this.world.get() : null;
         if (world == null) {
@@ -281,7 +320,7 @@ public Optional<ServerLevel> getServerWorld() {
     }
 
     public Optional<CompoundTag> getCompound() {
-        return this.compound == null ? Optional.empty() : Optional.of(this.compound.copy());
+        return this.compound() == null ? Optional.empty() : Optional.of(this.compound().copy());
     }
 
     public SpongeBlockSnapshotBuilder createBuilder() {
@@ -293,18 +332,19 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         } else {
             builder.world(this.worldKey);
         }
-        if (this.compound != null) {
-            builder.addUnsafeCompound(this.compound);
+        if (this.compound() != null) {
+            builder.addUnsafeCompound(this.compound());
         }
         return builder;
     }
 
     @Override
     public DataContainer data$getDataContainer() {
-        if (this.compound == null) {
+        if (this.compound() == null) {
             return DataContainer.createNew();
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        // The snapshot never modifies its compound, so the container can share it
+        return NBTTranslator.INSTANCE.wrap(this.compound());
     }
 
     @Override
@@ -316,7 +356,7 @@ public SpongeBlockSnapshotBuilder createBuilder() {
 
     @Override
     public CompoundTag data$getCompound() {
-        return this.compound == null ? new CompoundTag() : this.compound.copy();
+        return this.compound() == null ? new CompoundTag() : this.compound().copy();
     }
 
     @Override
@@ -357,17 +397,17 @@ public boolean equals(final Object o) {
                this.changeFlag == that.changeFlag &&
                Objects.equals(this.worldKey, that.worldKey) &&
                Objects.equals(this.pos, that.pos) &&
-               Objects.equals(this.compound, that.compound);
+               Objects.equals(this.compound(), that.compound());
     }
 
     @Override
     public int hashCode() {
+        // The compound is left out so hashing never has to save deferred block entity data
         return Objects
             .hash(this.blockState,
                 this.worldKey,
                 this.pos,
-                this.changeFlag,
-                this.compound);
+                this.changeFlag);
     }
 
     @Override
@@ -83,6 +83,7 @@ public static SpongeBlockSnapshotBuilder pooled() {
     Vector3i coordinates;
     @Nullable List<DataManipulator.Immutable> manipulators;
     @Nullable CompoundTag compound;
+    @Nullable BlockEntity deferredBlockEntity;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
     @Nullable WeakReference<ServerLevel> worldRef;
     private final boolean pooled;
@@ -193,7 +194,7 @@ public SpongeBlockSnapshotBuilder from(final SpongeBlockSnapshot snapshot) {
         this.blockState = snapshot.state();
         this.worldKey = snapshot.world();
         this.worldRef = snapshot.world;
-        this.compound = snapshot.compound;
+        this.compound = snapshot.compound();
         this.coordinates = snapshot.position();
         this.flag = snapshot.getChangeFlag();
         return this;
@@ -236,6 +237,7 @@ public SpongeBlockChangeFlag getFlag() {
         this.coordinates = null;
         this.manipulators = null;
         this.compound = null;
+        this.deferredBlockEntity = null;
         this.flag = null;
         return this;
     }
@@ -291,6 +293,20 @@ public SpongeBlockSnapshotBuilder addUnsafeCompound(final CompoundTag compound)
         Objects.requireNonNull(compound);
 
         this.compound = compound.copy();
+        this.deferredBlockEntity = null;
+        return this;
+    }
+
+    /**
+     * Sets the block entity whose data the snapshot saves lazily, the first
+     * time its data is actually needed, instead of when it is built.
+     *
+     * @param blockEntity The block entity
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder deferredBlockEntity(final BlockEntity blockEntity) {
+        this.deferredBlockEntity = Objects.requireNonNull(blockEntity);
+        this.compound = null;
         return this;
     }
 
@@ -117,7 +117,7 @@ public BlockEntityArchetype.Builder blockEntity(final BlockEntity blockEntity) {
         final String tileId = compound.getString(Constants.Item.BLOCK_ENTITY_ID);
         compound.remove("id");
         compound.putString(Constants.Sponge.BlockEntityArchetype.TILE_ENTITY_ID, tileId);
-        this.data = NBTTranslator.INSTANCE.translate(compound);
+        this.data = NBTTranslator.INSTANCE.wrap(compound);
         this.blockState = blockEntity.block();
         this.type = blockEntity.type();
         return this;
@@ -24,10 +24,14 @@
  */
 package org.spongepowered.common.bridge.network;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.util.Locale;
 
 public interface FriendlyByteBufBridge {
 
     void bridge$setLocale(final Locale locale);
 
+    @Nullable Locale bridge$getLocale();
+
 }
@@ -35,8 +35,6 @@ public interface MapItemSavedDataBridge {
 
     void bridge$setDimensionId(int dimensionId);
 
-    void bridge$updateWholeMap();
-
     int bridge$getMapId();
 
     void bridge$setMapId(int id);
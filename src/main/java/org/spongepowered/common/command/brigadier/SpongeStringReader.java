@@ -208,7 +208,7 @@ public String parseNBTString() throws ArgumentParseException {
     @Override
     public DataContainer parseDataContainer() throws ArgumentParseException {
         try {
-            return NBTTranslator.INSTANCE.translate(new TagParser(this).readStruct());
+            return NBTTranslator.INSTANCE.wrap(new TagParser(this).readStruct());
         } catch (final CommandSyntaxException e) {
             throw this.createException(SpongeAdventure.asAdventure(e.getRawMessage()));
         }
@@ -55,6 +55,7 @@ public static boolean canUse(
         Supplier<String> supplier = SpongeNodePermissionCache.PERMISSION_MAP.get(node);
         if (supplier == null) {
             supplier = new CachingStringSupplier(() -> SpongeNodePermissionCache.createFromNode(dispatcher, node));
+            SpongeNodePermissionCache.PERMISSION_MAP.put(node, supplier);
         }
         try {
             ((CommandSourceStackBridge) source).bridge$setPotentialPermissionNode(supplier);
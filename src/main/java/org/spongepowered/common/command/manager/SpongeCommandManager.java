@@ -98,6 +98,7 @@
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -124,6 +125,7 @@ public final class SpongeCommandManager implements CommandManager.Mutable {
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
     private BrigadierCommandRegistrar brigadierRegistrar;
+    private int commandTreeVersion;
 
     public static SpongeCommandManager get(final MinecraftServer server) {
         return ((CommandsBridge) server.getCommands()).bridge$commandManager();
@@ -260,9 +262,27 @@ public Set<CommandMapping> knownMappings() {
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreeChanged();
         return mapping;
     }
 
+    /**
+     * Marks the command tree as changed, invalidating any command tree
+     * packets that were built from it.
+     */
+    public void commandTreeChanged() {
+        this.commandTreeVersion++;
+    }
+
+    /**
+     * Gets a counter that changes every time a command is added to the tree.
+     *
+     * @return The current command tree version
+     */
+    public int commandTreeVersion() {
+        return this.commandTreeVersion;
+    }
+
     @Override
     public @NonNull Collection<PluginContainer> plugins() {
         return ImmutableSet.copyOf(this.pluginToCommandMap.keySet());
@@ -611,6 +631,24 @@ public Collection<CommandNode<SharedSuggestionProvider>> getNonBrigadierSuggesti
         return suggestions;
     }
 
+    /**
+     * Records the outcome of every requirement that
+     * {@link #getNonBrigadierSuggestions(CommandCause)} would test for the
+     * given cause, in the same order.
+     *
+     * @param cause The cause to test requirements against
+     * @param fingerprint The bits to record passing requirements in
+     * @param index The first bit to record into
+     * @return The bit after the last one recorded
+     */
+    public int fingerprintNonBrigadierSuggestions(final CommandCause cause, final BitSet fingerprint, final int index) {
+        int next = index;
+        for (final RootCommandTreeNode node : this.mappingToSuggestionNodes.values()) {
+            next = node.fingerprint(cause, fingerprint, next);
+        }
+        return next;
+    }
+
     public Collection<String> getAliasesThatStartWithForCause(final CommandCause cause, final String startingText) {
         final String toCompare = startingText.toLowerCase(Locale.ROOT);
         final List<String> aliases = new ArrayList<>();
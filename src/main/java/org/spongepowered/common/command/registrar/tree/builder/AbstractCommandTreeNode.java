@@ -37,9 +37,11 @@
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public abstract class AbstractCommandTreeNode<T extends CommandTreeNode<@NonNull T>, O extends CommandNode<SharedSuggestionProvider>>
@@ -157,6 +159,35 @@ protected final void addChildNodesToTree(
         });
     }
 
+    /**
+     * Records the requirement outcome of each child that
+     * {@link #addChildNodesToTree} would visit for the given cause, in
+     * visiting order.
+     *
+     * @param cause The cause to test requirements against
+     * @param fingerprint The bits to record passing requirements in
+     * @param index The first bit to record into
+     * @param visited The nodes that have already been expanded
+     * @return The bit after the last one recorded
+     */
+    protected final int fingerprintChildren(
+            final CommandCause cause,
+            final BitSet fingerprint,
+            final int index,
+            final Set<AbstractCommandTreeNode<?, ?>> visited) {
+        int next = index;
+        for (final AbstractCommandTreeNode<?, ?> child : this.getChildren().values()) {
+            final int bit = next++;
+            if (child.requirement.test(cause)) {
+                fingerprint.set(bit);
+                if (visited.add(child) && !(child.redirect instanceof AbstractCommandTreeNode<?, ?>)) {
+                    next = child.fingerprintChildren(cause, fingerprint, next, visited);
+                }
+            }
+        }
+        return next;
+    }
+
     protected final Predicate<CommandCause> getRequirement() {
         return this.requirement;
     }
@@ -33,6 +33,8 @@
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
 
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -66,6 +68,25 @@ public final class RootCommandTreeNode extends AbstractCommandTreeNode<CommandTr
         return null;
     }
 
+    /**
+     * Records the outcome of every requirement that
+     * {@link #createArgumentTree(CommandCause, LiteralArgumentBuilder)} would
+     * test for the given cause, such that two causes with the same
+     * fingerprint produce the same argument tree.
+     *
+     * @param cause The cause to test requirements against
+     * @param fingerprint The bits to record passing requirements in
+     * @param index The first bit to record into
+     * @return The bit after the last one recorded
+     */
+    public int fingerprint(final CommandCause cause, final BitSet fingerprint, final int index) {
+        if (this.getRequirement().test(cause)) {
+            fingerprint.set(index);
+            return this.fingerprintChildren(cause, fingerprint, index + 1, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        return index + 1;
+    }
+
     @Override
     protected RootCommandNode<SharedSuggestionProvider> createElement(final String nodeKey) {
         // node key is ignored.
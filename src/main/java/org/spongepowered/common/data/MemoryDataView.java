@@ -74,7 +74,7 @@ public class MemoryDataView implements DataView {
     private final DataQuery path;
     private final DataView.SafetyMode safety;
 
-    MemoryDataView(final DataView.SafetyMode safety) {
+    protected MemoryDataView(final DataView.SafetyMode safety) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
         this.path = DataQuery.of();
         this.parent = this;
@@ -90,6 +90,25 @@ private MemoryDataView(final DataView parent, final DataQuery path, final DataVi
         this.safety = Objects.requireNonNull(safety, "Safety mode");
     }
 
+    /**
+     * Called before the backing map is accessed. Views which fill
+     * their map lazily load their contents here.
+     */
+    protected void ensureLoaded() {
+    }
+
+    /**
+     * Copies the contents of this view to the given path of the target
+     * view, if this view can do so without loading itself first.
+     *
+     * @param target The view to copy to
+     * @param path The path to copy to
+     * @return True if the contents were copied
+     */
+    protected boolean copyUnloadedTo(final MemoryDataView target, final DataQuery path) {
+        return false;
+    }
+
     @Override
     public DataContainer container() {
         return this.container;
@@ -113,6 +132,7 @@ public Optional<DataView> parent() {
 
     @Override
     public Set<DataQuery> keys(final boolean deep) {
+        this.ensureLoaded();
         final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
         for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
@@ -145,8 +165,9 @@ public Map<DataQuery, Object> values(final boolean deep) {
     }
 
     @Override
-    public final boolean contains(final DataQuery path) {
+    public boolean contains(final DataQuery path) {
         Objects.requireNonNull(path, "path");
+        this.ensureLoaded();
         final List<String> queryParts = path.parts();
 
         final String key = queryParts.get(0);
@@ -188,6 +209,7 @@ public Optional<Object> get(final DataQuery path) {
             return Optional.of(this);
         }
 
+        this.ensureLoaded();
         final String key = queryParts.get(0);
         if (sz == 1) {
             final Object object = this.map.get(key);
@@ -233,6 +255,7 @@ public DataView set(final DataQuery path, final Object value) {
         Objects.requireNonNull(value, "value");
         checkState(this.container != null);
         checkState(!path.parts().isEmpty(), "The path is empty");
+        this.ensureLoaded();
 
         @Nullable DataManager manager;
 
@@ -412,6 +435,9 @@ private void setMap(final String key, final Map<?, ?> value) {
     }
 
     private void copyDataView(final DataQuery path, final DataView value) {
+        if (value instanceof MemoryDataView && ((MemoryDataView) value).copyUnloadedTo(this, path)) {
+            return;
+        }
         final Collection<DataQuery> valueKeys = value.keys(true);
         for (final DataQuery oldKey : valueKeys) {
             this.set(path.then(oldKey), value.get(oldKey).get());
@@ -421,6 +447,7 @@ private void copyDataView(final DataQuery path, final DataView value) {
     @Override
     public DataView remove(final DataQuery path) {
         Objects.requireNonNull(path, "path");
+        this.ensureLoaded();
         final List<String> parts = path.parts();
         if (parts.size() > 1) {
             final String subKey = parts.get(0);
@@ -445,6 +472,7 @@ public DataView createView(final DataQuery path) {
         final int sz = queryParts.size();
 
         checkArgument(sz != 0, "The size of the query must be at least 1");
+        this.ensureLoaded();
 
         final String key = queryParts.get(0);
         final DataQuery keyQuery = DataQuery.of(key);
@@ -530,6 +558,7 @@ private Optional<DataView> getUnsafeView(final DataQuery path) {
     }
 
     private Optional<DataView> getUnsafeView(final String path) {
+        this.ensureLoaded();
         final Object object = this.map.get(path);
         if (!(object instanceof DataView)) {
             return Optional.empty();
@@ -843,6 +872,7 @@ public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.
 
     @Override
     public boolean isEmpty() {
+        this.ensureLoaded();
         return this.map.isEmpty();
     }
 
@@ -853,6 +883,7 @@ public org.spongepowered.api.data.persistence.DataView.SafetyMode safetyMode() {
 
     @Override
     public int hashCode() {
+        this.ensureLoaded();
         return Objects.hash(this.map, this.path);
     }
 
@@ -861,10 +892,12 @@ public boolean equals(final @Nullable Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null || this.getClass() != obj.getClass()) {
+        if (!(obj instanceof MemoryDataView)) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
+        this.ensureLoaded();
+        other.ensureLoaded();
 
         return com.google.common.base.Objects.equal(this.map.entrySet(), other.map.entrySet())
             && com.google.common.base.Objects.equal(this.path, other.path);
@@ -877,6 +910,7 @@ public String toString() {
             helper.add("path", this.path);
         }
         helper.add("safety", this.safety.name());
+        this.ensureLoaded();
         return helper.add("map", this.map).toString();
     }
 }
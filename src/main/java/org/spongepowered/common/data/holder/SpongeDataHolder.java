@@ -33,12 +33,11 @@
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.common.data.SpongeDataManager;
+import org.spongepowered.common.data.provider.DataProviderLookup;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -71,8 +70,15 @@ public interface SpongeDataHolder extends DataHolder {
         return Collections.singletonList(this);
     }
 
-    default Collection<DataProvider<?, ?>> impl$getAllProviders(DataHolder dataHolder) {
-        return SpongeDataManager.getProviderRegistry().getAllProviders(dataHolder.getClass());
+    /**
+     * Gets the {@link DataProviderLookup} which is used for bulk reads
+     * of the given data holder.
+     *
+     * @param dataHolder The data holder
+     * @return The provider lookup
+     */
+    default DataProviderLookup impl$getProviderLookup(DataHolder dataHolder) {
+        return SpongeDataManager.getProviderRegistry().getProviderLookup(dataHolder.getClass());
     }
 
     default <T, E, V extends Value<E>> T impl$apply(Key<V> key, BiFunction<DataProvider, DataHolder, T> function, Supplier<T> defaultResult) {
@@ -101,30 +107,51 @@ default <E, V extends Value<E>> Optional<V> getValue(Key<V> key) {
         return this.impl$apply(key, DataProvider::value, Optional::empty);
     }
 
+    @SuppressWarnings({"rawtypes", "unchecked"})
     default Map<Key<?>, Object> impl$getMappedValues() {
-        return this.impl$delegateDataHolder().stream()
-                .flatMap(dh -> this.impl$getAllProviders(dh).stream()
-                        .map(provider -> provider.value(dh).orElse(null))
-                        .filter(Objects::nonNull)
-                        .map(Value::asImmutable))
-                .collect(ImmutableMap.toImmutableMap(Value::key, Value::get));
+        final ImmutableMap.Builder<Key<?>, Object> builder = ImmutableMap.builder();
+        for (final DataHolder dataHolder : this.impl$delegateDataHolder()) {
+            final List<DataProvider<?, ?>> providers = this.impl$getProviderLookup(dataHolder).getAllProviders();
+            for (int i = 0; i < providers.size(); i++) {
+                final DataProvider provider = providers.get(i);
+                final Value<?> value = (Value<?>) provider.value(dataHolder).orElse(null);
+                if (value != null) {
+                    builder.put(value.key(), value.get());
+                }
+            }
+        }
+        return builder.build();
     }
 
     @Override
     default Set<Key<?>> getKeys() {
-        return this.impl$delegateDataHolder().stream()
-                .flatMap(dh -> this.impl$getAllProviders(dh).stream()
-                        .filter(provider -> provider.get(dh).isPresent()).map(DataProvider::key))
-                .collect(ImmutableSet.toImmutableSet());
+        final ImmutableSet.Builder<Key<?>> builder = ImmutableSet.builder();
+        for (final DataHolder dataHolder : this.impl$delegateDataHolder()) {
+            final List<DataProvider<?, ?>> providers = this.impl$getProviderLookup(dataHolder).getAllProviders();
+            for (int i = 0; i < providers.size(); i++) {
+                final DataProvider<?, ?> provider = providers.get(i);
+                if (provider.get(dataHolder).isPresent()) {
+                    builder.add(provider.key());
+                }
+            }
+        }
+        return builder.build();
     }
 
     @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
     default Set<Value.Immutable<?>> getValues() {
-        return this.impl$delegateDataHolder().stream()
-                .flatMap(dh -> this.impl$getAllProviders(dh).stream()
-                        .map(provider -> provider.value(dh).orElse(null))
-                        .filter(Objects::nonNull)
-                        .map(Value::asImmutable))
-                .collect(ImmutableSet.toImmutableSet());
+        final ImmutableSet.Builder<Value.Immutable<?>> builder = ImmutableSet.builder();
+        for (final DataHolder dataHolder : this.impl$delegateDataHolder()) {
+            final List<DataProvider<?, ?>> providers = this.impl$getProviderLookup(dataHolder).getAllProviders();
+            for (int i = 0; i < providers.size(); i++) {
+                final DataProvider provider = providers.get(i);
+                final Value<?> value = (Value<?>) provider.value(dataHolder).orElse(null);
+                if (value != null) {
+                    builder.add(value.asImmutable());
+                }
+            }
+        }
+        return builder.build();
     }
 }
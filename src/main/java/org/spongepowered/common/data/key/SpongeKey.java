@@ -40,11 +40,15 @@
 
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 public final class SpongeKey<V extends Value<E>, E> extends AbstractResourceKeyed implements Key<V> {
 
+    private static final AtomicInteger ID_COUNTER = new AtomicInteger();
+
+    private final int id;
     private final Type valueType;
     private final Type elementType;
     private final Comparator<? super E> elementComparator;
@@ -58,6 +62,7 @@ public SpongeKey(final ResourceKey key, final Type valueType, final Type element
             final BiPredicate<? super E, ? super E> elementIncludesTester, final Supplier<E> defaultValueSupplier) {
         super(key);
 
+        this.id = SpongeKey.ID_COUNTER.getAndIncrement();
         this.valueType = valueType;
         this.elementType = elementType;
         this.elementComparator = elementComparator;
@@ -67,6 +72,16 @@ public SpongeKey(final ResourceKey key, final Type valueType, final Type element
         this.valueConstructor = ValueConstructorFactory.getConstructor(this);
     }
 
+    /**
+     * Gets the dense, zero based id of this key. Ids are handed out in the
+     * order the keys are created and can be used to index flat arrays.
+     *
+     * @return The id
+     */
+    public int getId() {
+        return this.id;
+    }
+
     @Override
     public Type valueType() {
         return this.valueType;
@@ -0,0 +1,188 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.spongepowered.api.data.persistence.DataQuery.of;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pull reader over serialized data, which walks the data tree one
+ * token at a time instead of building a full {@link DataContainer}.
+ *
+ * <p>Consumers can handle entries as they come in and only build
+ * containers for the parts they need, see {@link #nextValue()} and
+ * {@link #skipValue()}.</p>
+ */
+public abstract class DataStreamReader implements Closeable {
+
+    public enum Token {
+        BEGIN_VIEW,
+        END_VIEW,
+        BEGIN_LIST,
+        END_LIST,
+        NAME,
+        /**
+         * A single value, which includes primitive arrays.
+         */
+        VALUE,
+        END_DOCUMENT
+    }
+
+    /**
+     * Gets the next token without consuming it.
+     *
+     * @return The next token
+     * @throws IOException If the underlying input couldn't be read
+     */
+    public abstract Token peek() throws IOException;
+
+    public abstract void beginView() throws IOException;
+
+    public abstract void endView() throws IOException;
+
+    public abstract void beginList() throws IOException;
+
+    public abstract void endList() throws IOException;
+
+    /**
+     * Gets whether the current view or list has more entries.
+     *
+     * @return Whether there are more entries
+     * @throws IOException If the underlying input couldn't be read
+     */
+    public boolean hasNext() throws IOException {
+        final Token token = this.peek();
+        return token != Token.END_VIEW && token != Token.END_LIST && token != Token.END_DOCUMENT;
+    }
+
+    public abstract String nextName() throws IOException;
+
+    /**
+     * Reads the value at the current {@link Token#VALUE} token.
+     *
+     * @return The value
+     * @throws IOException If the underlying input couldn't be read
+     */
+    protected abstract @Nullable Object nextSingleValue() throws IOException;
+
+    /**
+     * Reads the next value. Views and lists are read as a whole
+     * into a {@link DataContainer} or {@link List}.
+     *
+     * @return The value
+     * @throws IOException If the underlying input couldn't be read
+     */
+    public @Nullable Object nextValue() throws IOException {
+        final Token token = this.peek();
+        switch (token) {
+            case BEGIN_VIEW:
+                return this.nextContainer();
+            case BEGIN_LIST:
+                return this.nextList();
+            case VALUE:
+                return this.nextSingleValue();
+            default:
+                throw new IOException("Expected a value but was " + token);
+        }
+    }
+
+    /**
+     * Skips the next value, including all the entries of a view or list.
+     *
+     * @throws IOException If the underlying input couldn't be read
+     */
+    public void skipValue() throws IOException {
+        final Token token = this.peek();
+        if (token == Token.BEGIN_VIEW) {
+            this.beginView();
+            while (this.hasNext()) {
+                this.nextName();
+                this.skipValue();
+            }
+            this.endView();
+        } else if (token == Token.BEGIN_LIST) {
+            this.beginList();
+            while (this.hasNext()) {
+                this.skipValue();
+            }
+            this.endList();
+        } else {
+            this.nextValue();
+        }
+    }
+
+    /**
+     * Reads the next view as a whole into a new {@link DataContainer}.
+     *
+     * @return The data container
+     * @throws IOException If the underlying input couldn't be read
+     */
+    public DataContainer nextContainer() throws IOException {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        this.nextView(container);
+        return container;
+    }
+
+    /**
+     * Reads the entries of the next view into the given {@link DataView}.
+     *
+     * @param view The view to read into
+     * @throws IOException If the underlying input couldn't be read
+     */
+    public void nextView(final DataView view) throws IOException {
+        this.beginView();
+        while (this.hasNext()) {
+            final String name = this.nextName();
+            if (this.peek() == Token.BEGIN_VIEW) {
+                // Read straight into the sub view so it doesn't need to be copied
+                this.nextView(view.createView(of(name)));
+            } else {
+                final Object value = this.nextValue();
+                if (value != null) {
+                    view.set(of(name), value);
+                }
+            }
+        }
+        this.endView();
+    }
+
+    private List<?> nextList() throws IOException {
+        final List<Object> list = new ArrayList<>();
+        this.beginList();
+        while (this.hasNext()) {
+            list.add(this.nextValue());
+        }
+        this.endList();
+        return list;
+    }
+}
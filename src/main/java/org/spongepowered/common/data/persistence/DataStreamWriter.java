@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A push writer for serialized data, which writes entries as they are
+ * handed to it instead of requiring a full {@link DataView} up front.
+ *
+ * <p>Nothing is validated ahead of writing, a value which can't be written
+ * fails with everything before it already handed to the output.</p>
+ */
+public abstract class DataStreamWriter implements Closeable, Flushable {
+
+    public abstract void beginView() throws IOException;
+
+    public abstract void endView() throws IOException;
+
+    /**
+     * Sets the name of the next entry of the current view.
+     *
+     * @param name The name
+     * @throws IOException If the underlying output couldn't be written to
+     */
+    public abstract void name(String name) throws IOException;
+
+    /**
+     * Writes a value, this can be anything which can be set
+     * to a {@link DataView}, including views and lists.
+     *
+     * @param value The value
+     * @throws IOException If the underlying output couldn't be written to
+     */
+    public abstract void value(Object value) throws IOException;
+
+    /**
+     * Writes all the entries of the given {@link DataView} as a view.
+     *
+     * @param view The view
+     * @throws IOException If the underlying output couldn't be written to
+     */
+    public void view(final DataView view) throws IOException {
+        this.beginView();
+        for (final Map.Entry<DataQuery, Object> entry : view.values(false).entrySet()) {
+            this.name(entry.getKey().asString('.'));
+            this.value(entry.getValue());
+        }
+        this.endView();
+    }
+}
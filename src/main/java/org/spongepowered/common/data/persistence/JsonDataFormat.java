@@ -24,11 +24,8 @@
  */
 package org.spongepowered.common.data.persistence;
 
-import static org.spongepowered.api.data.persistence.DataQuery.of;
-
 import com.google.gson.Gson;
 import com.google.gson.stream.JsonReader;
-import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.persistence.DataContainer;
@@ -49,11 +46,7 @@
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.lang.reflect.Array;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 
 
@@ -91,114 +84,47 @@ public DataContainer readFrom(InputStream input) throws IOException {
     }
 
     private static DataContainer readFrom(JsonReader reader) throws IOException {
-        return JsonDataFormat.createContainer(reader);
+        return new JsonDataStreamReader(reader).nextContainer();
     }
 
-    private static DataContainer createContainer(JsonReader reader) throws IOException {
-        DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-        JsonDataFormat.readView(reader, container);
-        return container;
+    /**
+     * Creates a {@link DataStreamReader} which pulls the data from the given input.
+     *
+     * @param input The input
+     * @return The stream reader
+     */
+    public DataStreamReader reader(Reader input) {
+        return new JsonDataStreamReader(new JsonReader(input));
     }
 
-    private static void readView(JsonReader reader, DataView view) throws IOException {
-        reader.beginObject();
-
-        while (reader.hasNext()) {
-            DataQuery key = of(reader.nextName());
-
-            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
-                // Check this early so we don't need to copy the view
-                final DataView subView = view.createView(key);
-                JsonDataFormat.readView(reader, subView);
-                // handle special array types
-                subView.getString(DataQuery.of(ARRAYTYPE)).ifPresent(type -> {
-                    view.remove(key);
-                    view.set(key, JsonDataFormat.readArray(type, subView));
-                });
-            } else {
-                view.set(key, JsonDataFormat.read(reader));
-            }
-        }
-
-        reader.endObject();
+    /**
+     * Creates a {@link DataStreamReader} which pulls the data from the given input.
+     *
+     * @param input The input
+     * @return The stream reader
+     */
+    public DataStreamReader reader(InputStream input) {
+        return this.reader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
     }
 
-    private static @org.checkerframework.checker.nullness.qual.Nullable Object read(JsonReader reader) throws IOException {
-        JsonToken token = reader.peek();
-        switch (token) {
-            case BEGIN_OBJECT:
-                final DataContainer container = JsonDataFormat.createContainer(reader);
-                // handle special array types
-                return container.getString(DataQuery.of(ARRAYTYPE)).map(s -> JsonDataFormat.readArray(s, container)).orElse(container);
-            case BEGIN_ARRAY:
-                return JsonDataFormat.readArray(reader);
-            case BOOLEAN:
-                return reader.nextBoolean();
-            case NULL:
-                reader.nextNull();
-                return null;
-            case STRING:
-                return reader.nextString();
-            case NUMBER:
-                return JsonDataFormat.readNumber(reader);
-            default:
-                throw new IOException("Unexpected token: " + token);
-        }
+    /**
+     * Creates a {@link DataStreamWriter} which writes the data to the given output.
+     *
+     * @param output The output
+     * @return The stream writer
+     */
+    public DataStreamWriter writer(Writer output) {
+        return new JsonDataStreamWriter(new JsonWriter(output));
     }
 
-    private static Object readArray(String type, DataView container) {
-        final Object value = container.get(of(VALUE)).get();
-        final List<Object> list = new ArrayList<>();
-        if (value instanceof Collection) {
-            list.addAll(((Collection<?>) value));
-        } else if (value.getClass().isArray()) {
-            for (int i = 0; i < Array.getLength(value); i++) {
-                list.add(Array.get(value, i));
-            }
-        }
-        switch (type) {
-            case INT:
-                return list.stream().mapToInt(n -> (int) n).toArray();
-            case BYTE:
-                final byte[] bytes = new byte[list.size()];
-                for (int i = 0; i < list.size(); i++) {
-                    bytes[i] = (byte) list.get(i);
-                }
-                return bytes;
-            case LONG:
-                return list.stream().mapToLong(n -> (long) n).toArray();
-            default:
-                throw new IllegalArgumentException("Unknown type " + type);
-
-        }
-    }
-
-    private static Number readNumber(JsonReader reader) throws IOException {
-        // Similar to https://github.com/zml2008/configurate/blob/master/configurate-gson/src/main/java/ninja/leaping/configurate/gson/GsonConfigurationLoader.java#L113
-        // Not sure what's the best way to detect the type of number
-
-        String number = reader.nextString();
-        if (number.contains(".")) {
-            return Double.parseDouble(number);
-        }
-        long nextLong = Long.parseLong(number);
-        int nextInt = (int) nextLong;
-        if (nextInt == nextLong) {
-            return nextInt;
-        }
-        return nextLong;
-    }
-
-    private static List<?> readArray(JsonReader reader) throws IOException {
-        reader.beginArray();
-
-        List<Object> result = new ArrayList<>();
-        while (reader.hasNext()) {
-            result.add(JsonDataFormat.read(reader));
-        }
-
-        reader.endArray();
-        return result;
+    /**
+     * Creates a {@link DataStreamWriter} which writes the data to the given output.
+     *
+     * @param output The output
+     * @return The stream writer
+     */
+    public DataStreamWriter writer(OutputStream output) {
+        return this.writer(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
     }
 
     @Override
@@ -233,7 +159,7 @@ private static void writeView(JsonWriter writer, DataView view) throws IOExcepti
         writer.endObject();
     }
 
-    private static void write(JsonWriter writer, @Nullable Object value) throws IOException {
+    static void write(JsonWriter writer, @Nullable Object value) throws IOException {
         if (value == null) {
             writer.nullValue();
         } else if (value instanceof Boolean) {
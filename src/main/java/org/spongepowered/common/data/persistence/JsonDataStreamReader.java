@@ -0,0 +1,218 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+
+/**
+ * A {@link DataStreamReader} over the json written by {@link JsonDataFormat}.
+ */
+final class JsonDataStreamReader extends DataStreamReader {
+
+    private final JsonReader reader;
+
+    // An object has to be opened to find out whether it's a
+    // primitive array or a view, what was read is kept here
+    private @Nullable Object bufferedArray;
+    private @Nullable String bufferedName;
+    private boolean bufferedBeginView;
+
+    JsonDataStreamReader(final JsonReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Token peek() throws IOException {
+        if (this.bufferedArray != null) {
+            return Token.VALUE;
+        }
+        if (this.bufferedBeginView) {
+            return Token.BEGIN_VIEW;
+        }
+        if (this.bufferedName != null) {
+            return Token.NAME;
+        }
+        final JsonToken token = this.reader.peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                this.reader.beginObject();
+                if (this.reader.hasNext()) {
+                    final String name = this.reader.nextName();
+                    if (name.equals(JsonDataFormat.ARRAYTYPE)) {
+                        this.bufferedArray = this.readArray(this.reader.nextString());
+                        return Token.VALUE;
+                    }
+                    this.bufferedName = name;
+                }
+                this.bufferedBeginView = true;
+                return Token.BEGIN_VIEW;
+            case END_OBJECT:
+                return Token.END_VIEW;
+            case BEGIN_ARRAY:
+                return Token.BEGIN_LIST;
+            case END_ARRAY:
+                return Token.END_LIST;
+            case NAME:
+                return Token.NAME;
+            case END_DOCUMENT:
+                return Token.END_DOCUMENT;
+            default:
+                return Token.VALUE;
+        }
+    }
+
+    private void expect(final Token expected) throws IOException {
+        final Token token = this.peek();
+        if (token != expected) {
+            throw new IOException("Expected " + expected + " but was " + token);
+        }
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        this.expect(Token.BEGIN_VIEW);
+        // peek already opened the object
+        this.bufferedBeginView = false;
+    }
+
+    @Override
+    public void endView() throws IOException {
+        this.expect(Token.END_VIEW);
+        this.reader.endObject();
+    }
+
+    @Override
+    public void beginList() throws IOException {
+        this.expect(Token.BEGIN_LIST);
+        this.reader.beginArray();
+    }
+
+    @Override
+    public void endList() throws IOException {
+        this.expect(Token.END_LIST);
+        this.reader.endArray();
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        this.expect(Token.NAME);
+        final String name = this.bufferedName;
+        if (name != null) {
+            this.bufferedName = null;
+            return name;
+        }
+        return this.reader.nextName();
+    }
+
+    @Override
+    protected @Nullable Object nextSingleValue() throws IOException {
+        this.expect(Token.VALUE);
+        final Object array = this.bufferedArray;
+        if (array != null) {
+            this.bufferedArray = null;
+            return array;
+        }
+        final JsonToken token = this.reader.peek();
+        switch (token) {
+            case BOOLEAN:
+                return this.reader.nextBoolean();
+            case NULL:
+                this.reader.nextNull();
+                return null;
+            case STRING:
+                return this.reader.nextString();
+            case NUMBER:
+                return JsonDataStreamReader.parseNumber(this.reader.nextString());
+            default:
+                throw new IOException("Unexpected token: " + token);
+        }
+    }
+
+    /**
+     * Reads the rest of an object which holds a primitive array,
+     * the {@link JsonDataFormat#ARRAYTYPE} entry is already read.
+     *
+     * @param type The array type
+     * @return The array
+     * @throws IOException If the underlying input couldn't be read
+     */
+    private Object readArray(final String type) throws IOException {
+        final LongArrayList values = new LongArrayList();
+        while (this.reader.hasNext()) {
+            if (this.reader.nextName().equals(JsonDataFormat.VALUE)) {
+                this.reader.beginArray();
+                while (this.reader.hasNext()) {
+                    values.add(this.reader.nextLong());
+                }
+                this.reader.endArray();
+            } else {
+                this.reader.skipValue();
+            }
+        }
+        this.reader.endObject();
+        switch (type) {
+            case JsonDataFormat.INT:
+                final int[] ints = new int[values.size()];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = (int) values.getLong(i);
+                }
+                return ints;
+            case JsonDataFormat.BYTE:
+                final byte[] bytes = new byte[values.size()];
+                for (int i = 0; i < bytes.length; i++) {
+                    bytes[i] = (byte) values.getLong(i);
+                }
+                return bytes;
+            case JsonDataFormat.LONG:
+                return values.toLongArray();
+            default:
+                throw new IllegalArgumentException("Unknown type " + type);
+        }
+    }
+
+    private static Number parseNumber(final String number) {
+        // Similar to https://github.com/zml2008/configurate/blob/master/configurate-gson/src/main/java/ninja/leaping/configurate/gson/GsonConfigurationLoader.java#L113
+        // Not sure what's the best way to detect the type of number
+        if (number.contains(".")) {
+            return Double.parseDouble(number);
+        }
+        final long nextLong = Long.parseLong(number);
+        final int nextInt = (int) nextLong;
+        if (nextInt == nextLong) {
+            return nextInt;
+        }
+        return nextLong;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataView;
+import org.spongepowered.common.util.Constants;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+
+/**
+ * A {@link DataContainer} which is backed by a {@link CompoundTag}.
+ *
+ * <p>Reads of non compound values are answered straight from the tag. The
+ * contents are only translated into the backing map once the container is
+ * modified or traversed as a whole, the tag itself is never written to. As
+ * long as the container wasn't loaded, translating it back into a
+ * {@link CompoundTag} is a plain tag copy.</p>
+ *
+ * <p>Reading from the container is thread safe like reading from any other
+ * {@link MemoryDataView}, loading happens at most once and other threads
+ * keep reading from the tag until it has completed.</p>
+ */
+public final class NBTDataContainer extends MemoryDataView implements DataContainer {
+
+    // Cleared once the map has been filled, the tag itself is never modified
+    private volatile @Nullable CompoundTag compound;
+    private boolean loading;
+
+    NBTDataContainer(final CompoundTag compound, final DataView.SafetyMode safety) {
+        super(safety);
+        this.compound = compound;
+    }
+
+    /**
+     * Gets the backing {@link CompoundTag} if this container
+     * wasn't loaded yet. The tag must not be modified.
+     *
+     * @return The backing compound, if not loaded yet
+     */
+    @Nullable CompoundTag unloadedCompound() {
+        return this.compound;
+    }
+
+    @Override
+    protected void ensureLoaded() {
+        if (this.compound == null) {
+            return;
+        }
+        synchronized (this) {
+            final @Nullable CompoundTag compound = this.compound;
+            // The translator fills this container through set, which ends up here again
+            if (compound == null || this.loading) {
+                return;
+            }
+            this.loading = true;
+            try {
+                NBTTranslator.INSTANCE.addTo(compound, this);
+            } finally {
+                this.loading = false;
+            }
+            this.compound = null;
+        }
+    }
+
+    @Override
+    protected boolean copyUnloadedTo(final MemoryDataView target, final DataQuery path) {
+        final @Nullable CompoundTag compound = this.compound;
+        if (compound == null) {
+            return false;
+        }
+        if (!compound.isEmpty()) {
+            // Translate straight into the target, loading this container first would only be copied again
+            NBTTranslator.INSTANCE.addTo(compound, target.getView(path).orElseGet(() -> target.createView(path)));
+        }
+        return true;
+    }
+
+    /**
+     * Finds the {@link CompoundTag} which holds the last part of the path.
+     *
+     * @param compound The root compound
+     * @param parts The path parts
+     * @return The holding compound, or null if not present
+     */
+    private static @Nullable CompoundTag findHolder(final CompoundTag compound, final List<String> parts) {
+        CompoundTag current = compound;
+        for (int i = 0; i < parts.size() - 1; i++) {
+            final Tag tag = current.get(parts.get(i));
+            if (!(tag instanceof CompoundTag)) {
+                return null;
+            }
+            current = (CompoundTag) tag;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the boolean which is stored under the given key
+     * with the {@link NBTTranslator#BOOLEAN_IDENTIFIER} suffix.
+     *
+     * @param holder The holding compound
+     * @param key The key
+     * @return The boolean, or null if not present
+     */
+    private static @Nullable Boolean findBoolean(final CompoundTag holder, final String key) {
+        final Tag tag = holder.get(key + NBTTranslator.BOOLEAN_IDENTIFIER);
+        return tag instanceof ByteTag ? ((ByteTag) tag).getAsByte() != 0 : null;
+    }
+
+    /**
+     * Gets whether the given path can be resolved against the unloaded
+     * compound with the same result as against the loaded map.
+     *
+     * @param parts The path parts
+     * @return Whether the path can be read through
+     */
+    private static boolean canReadThrough(final List<String> parts) {
+        if (parts.isEmpty()) {
+            return false;
+        }
+        for (final String part : parts) {
+            if (part.contains(NBTTranslator.BOOLEAN_IDENTIFIER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<DataView> parent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean contains(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        final CompoundTag compound = this.compound;
+        final List<String> parts = path.parts();
+        if (compound != null && NBTDataContainer.canReadThrough(parts)) {
+            final CompoundTag holder = NBTDataContainer.findHolder(compound, parts);
+            if (holder == null) {
+                return false;
+            }
+            final String key = parts.get(parts.size() - 1);
+            return holder.contains(key) || NBTDataContainer.findBoolean(holder, key) != null;
+        }
+        return super.contains(path);
+    }
+
+    @Override
+    public Optional<Object> get(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        final CompoundTag compound = this.compound;
+        final List<String> parts = path.parts();
+        if (compound != null && NBTDataContainer.canReadThrough(parts)) {
+            final CompoundTag holder = NBTDataContainer.findHolder(compound, parts);
+            if (holder == null) {
+                return Optional.empty();
+            }
+            final String key = parts.get(parts.size() - 1);
+            final Tag tag = holder.get(key);
+            if (tag == null) {
+                return Optional.ofNullable(NBTDataContainer.findBoolean(holder, key));
+            }
+            // Compounds have to be views that belong to this container, so load those
+            if (tag.getId() != Constants.NBT.TAG_COMPOUND) {
+                return Optional.ofNullable(NBTTranslator.fromTagBase(tag, tag.getId()));
+            }
+        }
+        return super.get(path);
+    }
+
+    @Override
+    public DataContainer set(final DataQuery path, final Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public DataContainer remove(final DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final CompoundTag compound = this.compound;
+        if (compound != null) {
+            return compound.isEmpty();
+        }
+        return super.isEmpty();
+    }
+
+    @Override
+    public DataContainer copy() {
+        return this.copy(this.safetyMode());
+    }
+
+    @Override
+    public DataContainer copy(final DataView.SafetyMode safety) {
+        final CompoundTag compound = this.compound;
+        if (compound != null) {
+            // Neither container writes to the tag, so it can be shared
+            return new NBTDataContainer(compound, safety);
+        }
+        return super.copy(safety);
+    }
+}
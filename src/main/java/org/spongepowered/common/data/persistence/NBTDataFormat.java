@@ -40,37 +40,58 @@
 public final class NBTDataFormat implements DataFormat {
 
     @Override
-    @SuppressWarnings("resource")
     public DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException {
-        DataInputStream dis;
-        if (input instanceof DataInputStream) {
-            dis = (DataInputStream) input;
-        } else {
-            dis = new DataInputStream(input);
-        }
+        final DataInputStream dis = NBTDataFormat.dataInput(input);
         try {
             CompoundTag tag = NbtIo.read(dis);
-            return NBTTranslator.INSTANCE.translateFrom(tag);
+            return NBTTranslator.INSTANCE.wrap(tag);
         } finally {
             dis.close();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The data is streamed to the output as it is translated. If a value
+     * can't be translated partway, the output is left with everything that
+     * was written before it and should be discarded.</p>
+     */
     @Override
-    @SuppressWarnings("resource")
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        CompoundTag tag = NBTTranslator.INSTANCE.translate(data);
-        DataOutputStream dos;
+        try (final DataStreamWriter writer = this.writer(output)) {
+            writer.view(data);
+        }
+    }
+
+    /**
+     * Creates a {@link DataStreamReader} which pulls the data from the given input.
+     *
+     * @param input The input
+     * @return The stream reader
+     */
+    public DataStreamReader reader(InputStream input) {
+        return new NBTDataStreamReader(NBTDataFormat.dataInput(input));
+    }
+
+    /**
+     * Creates a {@link DataStreamWriter} which writes the data to the given output.
+     *
+     * @param output The output
+     * @return The stream writer
+     */
+    public DataStreamWriter writer(OutputStream output) {
         if (output instanceof DataOutputStream) {
-            dos = (DataOutputStream) output;
-        } else {
-            dos = new DataOutputStream(output);
+            return new NBTDataStreamWriter((DataOutputStream) output);
         }
-        try {
-            NbtIo.write(tag, dos);
-        } finally {
-            dos.close();
+        return new NBTDataStreamWriter(new DataOutputStream(output));
+    }
+
+    private static DataInputStream dataInput(InputStream input) {
+        if (input instanceof DataInputStream) {
+            return (DataInputStream) input;
         }
+        return new DataInputStream(input);
     }
 
 }
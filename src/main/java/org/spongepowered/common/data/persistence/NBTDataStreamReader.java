@@ -0,0 +1,237 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.util.Constants;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A {@link DataStreamReader} over binary NBT, as written by {@link NBTDataFormat}.
+ */
+final class NBTDataStreamReader extends DataStreamReader {
+
+    private static final class Frame {
+
+        final boolean list;
+        final byte elementType;
+        int remaining;
+
+        Frame(final boolean list, final byte elementType, final int remaining) {
+            this.list = list;
+            this.elementType = elementType;
+            this.remaining = remaining;
+        }
+    }
+
+    private final DataInputStream input;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private boolean rootRead;
+    // The type of the next compound entry, or -1 if it wasn't read yet
+    private int entryType = -1;
+    private boolean entryNameRead;
+    private boolean entryIsBoolean;
+
+    NBTDataStreamReader(final DataInputStream input) {
+        this.input = input;
+    }
+
+    private static Token token(final int type) {
+        switch (type) {
+            case Constants.NBT.TAG_COMPOUND:
+                return Token.BEGIN_VIEW;
+            case Constants.NBT.TAG_LIST:
+                return Token.BEGIN_LIST;
+            default:
+                return Token.VALUE;
+        }
+    }
+
+    @Override
+    public Token peek() throws IOException {
+        final Frame frame = this.frames.peek();
+        if (frame == null) {
+            if (this.rootRead) {
+                return Token.END_DOCUMENT;
+            }
+            if (this.entryType < 0) {
+                this.entryType = this.input.readByte();
+                if (this.entryType != Constants.NBT.TAG_COMPOUND) {
+                    throw new IOException("Root tag must be a named compound tag");
+                }
+                this.input.readUTF();
+                this.entryNameRead = true;
+            }
+            return Token.BEGIN_VIEW;
+        }
+        if (frame.list) {
+            return frame.remaining == 0 ? Token.END_LIST : NBTDataStreamReader.token(frame.elementType);
+        }
+        if (this.entryType < 0) {
+            this.entryType = this.input.readByte();
+        }
+        if (this.entryType == Constants.NBT.TAG_END) {
+            return Token.END_VIEW;
+        }
+        return this.entryNameRead ? NBTDataStreamReader.token(this.entryType) : Token.NAME;
+    }
+
+    private void expect(final Token expected) throws IOException {
+        final Token token = this.peek();
+        if (token != expected) {
+            throw new IOException("Expected " + expected + " but was " + token);
+        }
+    }
+
+    /**
+     * Gets the type of the value the reader is positioned at.
+     */
+    private int valueType() {
+        final Frame frame = this.frames.peek();
+        return frame != null && frame.list ? frame.elementType : this.entryType;
+    }
+
+    /**
+     * Marks the value the reader is positioned at as consumed.
+     */
+    private void consumeValue() {
+        final Frame frame = this.frames.peek();
+        if (frame == null) {
+            this.rootRead = true;
+        } else if (frame.list) {
+            frame.remaining--;
+            return;
+        }
+        this.entryType = -1;
+        this.entryNameRead = false;
+        this.entryIsBoolean = false;
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        this.expect(Token.BEGIN_VIEW);
+        this.consumeValue();
+        this.frames.push(new Frame(false, (byte) 0, 0));
+    }
+
+    @Override
+    public void endView() throws IOException {
+        this.expect(Token.END_VIEW);
+        this.frames.pop();
+        this.entryType = -1;
+        this.entryNameRead = false;
+    }
+
+    @Override
+    public void beginList() throws IOException {
+        this.expect(Token.BEGIN_LIST);
+        final byte elementType = this.input.readByte();
+        final int size = this.input.readInt();
+        this.consumeValue();
+        this.frames.push(new Frame(true, elementType, Math.max(size, 0)));
+    }
+
+    @Override
+    public void endList() throws IOException {
+        this.expect(Token.END_LIST);
+        this.frames.pop();
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        this.expect(Token.NAME);
+        String name = this.input.readUTF();
+        if (this.entryType == Constants.NBT.TAG_BYTE && name.contains(NBTTranslator.BOOLEAN_IDENTIFIER)) {
+            name = name.replace(NBTTranslator.BOOLEAN_IDENTIFIER, "");
+            this.entryIsBoolean = true;
+        }
+        this.entryNameRead = true;
+        return name;
+    }
+
+    @Override
+    protected @Nullable Object nextSingleValue() throws IOException {
+        this.expect(Token.VALUE);
+        final boolean isBoolean = this.entryIsBoolean;
+        final Object value;
+        switch (this.valueType()) {
+            case Constants.NBT.TAG_BYTE:
+                final byte b = this.input.readByte();
+                value = isBoolean ? (Object) (b != 0) : (Object) b;
+                break;
+            case Constants.NBT.TAG_SHORT:
+                value = this.input.readShort();
+                break;
+            case Constants.NBT.TAG_INT:
+                value = this.input.readInt();
+                break;
+            case Constants.NBT.TAG_LONG:
+                value = this.input.readLong();
+                break;
+            case Constants.NBT.TAG_FLOAT:
+                value = this.input.readFloat();
+                break;
+            case Constants.NBT.TAG_DOUBLE:
+                value = this.input.readDouble();
+                break;
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                final byte[] bytes = new byte[this.input.readInt()];
+                this.input.readFully(bytes);
+                value = bytes;
+                break;
+            case Constants.NBT.TAG_STRING:
+                value = this.input.readUTF();
+                break;
+            case Constants.NBT.TAG_INT_ARRAY:
+                final int[] ints = new int[this.input.readInt()];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = this.input.readInt();
+                }
+                value = ints;
+                break;
+            case Constants.NBT.TAG_LONG_ARRAY:
+                final long[] longs = new long[this.input.readInt()];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = this.input.readLong();
+                }
+                value = longs;
+                break;
+            default:
+                throw new IOException("Unknown NBT type " + this.valueType());
+        }
+        this.consumeValue();
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.util.Constants;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+
+/**
+ * A {@link DataStreamWriter} which writes binary NBT, as read by {@link NBTDataFormat}.
+ *
+ * <p>Views are written entry by entry. Lists are the only values which are
+ * translated into a {@link Tag} first, since NBT needs their size up front.</p>
+ */
+final class NBTDataStreamWriter extends DataStreamWriter {
+
+    private final DataOutputStream output;
+
+    private int depth;
+    private @Nullable String name;
+
+    NBTDataStreamWriter(final DataOutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Writes the header of the next entry.
+     *
+     * @param type The tag type
+     * @param suffix The suffix to append to the name
+     * @throws IOException If the underlying output couldn't be written to
+     */
+    private void header(final byte type, final String suffix) throws IOException {
+        final String name;
+        if (this.depth == 0) {
+            if (type != Constants.NBT.TAG_COMPOUND) {
+                throw new IllegalStateException("The root value must be a view");
+            }
+            name = "";
+        } else {
+            if (this.name == null) {
+                throw new IllegalStateException("No name was set for the value");
+            }
+            name = this.name + suffix;
+            this.name = null;
+        }
+        this.output.writeByte(type);
+        this.output.writeUTF(name);
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        this.header(Constants.NBT.TAG_COMPOUND, "");
+        this.depth++;
+    }
+
+    @Override
+    public void endView() throws IOException {
+        if (this.depth == 0) {
+            throw new IllegalStateException("No view to end");
+        }
+        this.output.writeByte(Constants.NBT.TAG_END);
+        this.depth--;
+    }
+
+    @Override
+    public void name(final String name) throws IOException {
+        if (this.depth == 0) {
+            throw new IllegalStateException("Names can only be written within a view");
+        }
+        this.name = name;
+    }
+
+    @Override
+    public void view(final DataView view) throws IOException {
+        if (view instanceof NBTDataContainer) {
+            final CompoundTag compound = ((NBTDataContainer) view).unloadedCompound();
+            if (compound != null) {
+                this.header(Constants.NBT.TAG_COMPOUND, "");
+                compound.write(this.output);
+                return;
+            }
+        }
+        super.view(view);
+    }
+
+    @Override
+    public void value(final Object value) throws IOException {
+        if (value instanceof Boolean) {
+            this.header(Constants.NBT.TAG_BYTE, NBTTranslator.BOOLEAN_IDENTIFIER);
+            this.output.writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof Byte) {
+            this.header(Constants.NBT.TAG_BYTE, "");
+            this.output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            this.header(Constants.NBT.TAG_SHORT, "");
+            this.output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            this.header(Constants.NBT.TAG_INT, "");
+            this.output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            this.header(Constants.NBT.TAG_LONG, "");
+            this.output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            this.header(Constants.NBT.TAG_FLOAT, "");
+            this.output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            this.header(Constants.NBT.TAG_DOUBLE, "");
+            this.output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            this.header(Constants.NBT.TAG_STRING, "");
+            this.output.writeUTF((String) value);
+        } else if (value instanceof byte[]) {
+            final byte[] bytes = (byte[]) value;
+            this.header(Constants.NBT.TAG_BYTE_ARRAY, "");
+            this.output.writeInt(bytes.length);
+            this.output.write(bytes);
+        } else if (value instanceof int[]) {
+            final int[] ints = (int[]) value;
+            this.header(Constants.NBT.TAG_INT_ARRAY, "");
+            this.output.writeInt(ints.length);
+            for (final int i : ints) {
+                this.output.writeInt(i);
+            }
+        } else if (value instanceof long[]) {
+            final long[] longs = (long[]) value;
+            this.header(Constants.NBT.TAG_LONG_ARRAY, "");
+            this.output.writeInt(longs.length);
+            for (final long l : longs) {
+                this.output.writeLong(l);
+            }
+        } else if (value instanceof DataView) {
+            this.view((DataView) value);
+        } else if (value instanceof DataSerializable) {
+            this.view(((DataSerializable) value).toContainer());
+        } else if (value instanceof Map) {
+            this.map((Map<?, ?>) value);
+        } else {
+            // Lists and boxed arrays
+            final Tag tag = NBTTranslator.getBaseFromObject(value);
+            this.header(tag.getId(), "");
+            tag.write(this.output);
+        }
+    }
+
+    private void map(final Map<?, ?> map) throws IOException {
+        this.beginView();
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            final Object key = entry.getKey();
+            final Object value = entry.getValue();
+            if (key instanceof DataQuery) {
+                this.name(((DataQuery) key).asString('.'));
+                this.value(value);
+                continue;
+            }
+            this.name(key.toString());
+            if (value instanceof Boolean) {
+                // Like NBTTranslator, only booleans keyed by a query are marked as booleans
+                this.header(Constants.NBT.TAG_BYTE, "");
+                this.output.writeByte((Boolean) value ? 1 : 0);
+            } else {
+                this.value(value);
+            }
+        }
+        this.endView();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.output.close();
+    }
+}
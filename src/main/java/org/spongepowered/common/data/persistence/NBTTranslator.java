@@ -73,6 +73,16 @@ private static void containerToCompound(final DataView container, final Compound
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
+        if (container instanceof NBTDataContainer) {
+            final CompoundTag unloaded = ((NBTDataContainer) container).unloadedCompound();
+            if (unloaded != null) {
+                // Nothing changed since the container was created, so just copy the tags over
+                for (final String key : unloaded.getAllKeys()) {
+                    compound.put(key, unloaded.get(key).copy());
+                }
+                return;
+            }
+        }
         for (Map.Entry<DataQuery, Object> entry : container.values(false).entrySet()) {
             Object value = entry.getValue();
             String key = entry.getKey().asString('.');
@@ -89,7 +99,7 @@ private static void containerToCompound(final DataView container, final Compound
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Tag getBaseFromObject(final Object value) {
+    static Tag getBaseFromObject(final Object value) {
         checkNotNull(value);
         if (value instanceof Boolean) {
             return ByteTag.valueOf((Boolean) value);
@@ -168,11 +178,9 @@ private static Tag getBaseFromObject(final Object value) {
         throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
     }
 
-    private static DataContainer getViewFromCompound(CompoundTag compound) {
+    private static DataContainer getViewFromCompound(final CompoundTag compound) {
         checkNotNull(compound);
-        DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-        NBTTranslator.INSTANCE.addTo(compound, container);
-        return container;
+        return new NBTDataContainer(compound, DataView.SafetyMode.NO_DATA_CLONED);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -246,7 +254,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object fromTagBase(Tag base, byte type) {
+    static Object fromTagBase(Tag base, byte type) {
         switch (type) {
             case Constants.NBT.TAG_BYTE:
                 return ((ByteTag) base).getAsByte();
@@ -274,6 +282,8 @@ private static Object fromTagBase(Tag base, byte type) {
                 }
                 return objectList;
             case Constants.NBT.TAG_COMPOUND:
+                // Only called for tags owned by an NBTDataContainer, which are never
+                // modified, so the element can share the compound it came from
                 return NBTTranslator.getViewFromCompound((CompoundTag) base);
             case Constants.NBT.TAG_INT_ARRAY:
                 return ((IntArrayTag) base).getAsIntArray();
@@ -288,7 +298,31 @@ public void translateContainerToData(CompoundTag node, DataView container) {
         NBTTranslator.containerToCompound(container, node);
     }
 
+    /**
+     * Translates the given {@link CompoundTag} into a {@link DataContainer}.
+     * The compound is copied since the caller keeps it, compounds that are
+     * never modified afterwards should be {@link #wrap(CompoundTag) wrapped}
+     * instead.
+     *
+     * @param node The compound
+     * @return The data container
+     */
     public DataContainer translateFrom(CompoundTag node) {
+        return NBTTranslator.getViewFromCompound(node.copy());
+    }
+
+    /**
+     * Wraps the given {@link CompoundTag} in a {@link DataContainer} without
+     * copying it. The contents are only translated when the container is
+     * modified, until then reads go straight to the tag.
+     *
+     * <p>The compound is owned by the container afterwards and must not be
+     * modified anymore, use {@link #translate(CompoundTag)} if it is.</p>
+     *
+     * @param node The compound
+     * @return The data container backed by the compound
+     */
+    public DataContainer wrap(final CompoundTag node) {
         return NBTTranslator.getViewFromCompound(node);
     }
 
@@ -304,7 +338,7 @@ public CompoundTag translate(DataView view) throws InvalidDataException {
 
     @Override
     public DataContainer translate(CompoundTag obj) throws InvalidDataException {
-        return NBTTranslator.getViewFromCompound(obj);
+        return NBTTranslator.getViewFromCompound(obj.copy());
     }
 
     @Override
@@ -24,30 +24,52 @@
  */
 package org.spongepowered.common.data.provider;
 
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableList;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.common.data.key.SpongeKey;
 
 import java.util.Collection;
-import java.util.Map;
+import java.util.List;
 
 public final class DataProviderLookup {
 
-    private final Map<Key<?>, DataProvider<?, ?>> providerMap;
+    private static final DataProvider<?, ?>[] EMPTY = new DataProvider<?, ?>[0];
 
-    DataProviderLookup(Map<Key<?>, DataProvider<?, ?>> providerMap) {
-        this.providerMap = ImmutableMap.copyOf(providerMap);
+    /**
+     * The providers indexed by {@link SpongeKey#getId()}, keys
+     * without a provider have a {@code null} entry.
+     */
+    private final @Nullable DataProvider<?, ?>[] providersById;
+    private final List<DataProvider<?, ?>> providers;
+
+    DataProviderLookup(final Collection<DataProvider<?, ?>> providers) {
+        this.providers = ImmutableList.copyOf(providers);
+        if (this.providers.isEmpty()) {
+            this.providersById = DataProviderLookup.EMPTY;
+            return;
+        }
+        int maxId = 0;
+        for (final DataProvider<?, ?> provider : this.providers) {
+            maxId = Math.max(maxId, ((SpongeKey<?, ?>) provider.key()).getId());
+        }
+        this.providersById = new DataProvider<?, ?>[maxId + 1];
+        for (final DataProvider<?, ?> provider : this.providers) {
+            this.providersById[((SpongeKey<?, ?>) provider.key()).getId()] = provider;
+        }
     }
 
     /**
-     * Gets all the non-empty delegate {@link DataProvider}s.
+     * Gets all the non-empty delegate {@link DataProvider}s. For a lookup
+     * of a holder type these are only the providers left after filtering
+     * by that type, so bulk reads can go over them directly.
      *
-     * @return The delegate data providers
+     * @return The delegate data providers, in a random access list
      */
-    public Collection<DataProvider<?, ?>> getAllProviders() {
-        return this.providerMap.values();
+    public List<DataProvider<?, ?>> getAllProviders() {
+        return this.providers;
     }
 
     /**
@@ -59,7 +81,15 @@ public final class DataProviderLookup {
      * @return The delegate provider
      */
     @SuppressWarnings("unchecked")
-    public <V extends Value<E>, E> DataProvider<V, E> getProvider(Key<V> key) {
-        return (DataProvider<V, E>) this.providerMap.getOrDefault(key, ((SpongeKey<V, E>) key).getEmptyDataProvider());
+    public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key) {
+        final SpongeKey<V, E> spongeKey = (SpongeKey<V, E>) key;
+        final int id = spongeKey.getId();
+        if (id < this.providersById.length) {
+            final DataProvider<?, ?> provider = this.providersById[id];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        return spongeKey.getEmptyDataProvider();
     }
 }
@@ -41,48 +41,17 @@
 import org.spongepowered.common.data.provider.map.MapInfoDataProviders;
 import org.spongepowered.common.data.provider.nbt.NBTDataProviders;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public final class DataProviderRegistry {
 
-    private static class LookupKey {
-
-        final Class<?> holderType;
-
-        final Key<?> key;
-        private LookupKey(final Class<?> holderType, final Key<?> key) {
-            this.holderType = holderType;
-            this.key = key;
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || this.getClass() != o.getClass()) {
-                return false;
-            }
-            final LookupKey lookupKey = (LookupKey) o;
-            return this.holderType.equals(lookupKey.holderType) &&
-                    this.key.equals(lookupKey.key);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.holderType, this.key);
-        }
-
-    }
     private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
-    private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
     private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
@@ -94,18 +63,8 @@ private static boolean filterHolderType(final DataProvider<?,?> provider, final
         return true;
     }
 
-    @SuppressWarnings("unchecked")
-    private DataProvider<?,?> loadProvider(final LookupKey key) {
-        return this.buildDelegate((Key<Value<Object>>) key.key, provider -> DataProviderRegistry.filterHolderType(provider, key.holderType));
-    }
-
-    @SuppressWarnings(value = {"unchecked", "rawtypes"})
     private DataProviderLookup loadProviderLookup(final Class<?> holderType) {
-        final Stream<DataProvider> stream = this.dataProviders.keySet().stream()
-                .map(key -> this.getProvider((Key) key, holderType))
-                .filter(provider -> !(provider instanceof EmptyDataProvider));
-        final Map<Key<?>, DataProvider<?, ?>> map = stream.collect(Collectors.toMap(p -> (Key<?>) p.key(), p -> (DataProvider<?, ?>) p));
-        return new DataProviderLookup(map);
+        return this.buildLookup(provider -> DataProviderRegistry.filterHolderType(provider, holderType));
     }
 
     /**
@@ -135,6 +94,11 @@ private static <V extends Value<E>, E> DataProvider<V, E> buildDelegateProvider(
      * @return The built lookup
      */
     public DataProviderLookup getProviderLookup(final Class<?> dataHolderType) {
+        // Plain get first, computeIfAbsent locks the bin even if the value is present
+        final DataProviderLookup lookup = this.dataProviderLookupCache.get(dataHolderType);
+        if (lookup != null) {
+            return lookup;
+        }
         return this.dataProviderLookupCache.computeIfAbsent(dataHolderType, this::loadProviderLookup);
     }
 
@@ -146,10 +110,14 @@ public DataProviderLookup getProviderLookup(final Class<?> dataHolderType) {
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
     public DataProviderLookup buildLookup(final Predicate<DataProvider<?,?>> predicate) {
-        final Stream<DataProvider> stream = this.dataProviders.keySet().stream()
-                .map(key -> DataProviderRegistry.buildDelegateProvider((Key) key, (List) this.dataProviders.get(key).stream().filter(predicate)));
-        final Map<Key<?>, DataProvider<?, ?>> map = stream.collect(Collectors.toMap(p -> (Key<?>) p.key(), p -> (DataProvider<?, ?>) p));
-        return new DataProviderLookup(map);
+        final List<DataProvider<?, ?>> providers = new ArrayList<>(this.dataProviders.keySet().size());
+        for (final Key<?> key : this.dataProviders.keySet()) {
+            final DataProvider<?, ?> provider = this.buildDelegate((Key) key, (Predicate) predicate);
+            if (!(provider instanceof EmptyDataProvider)) {
+                providers.add(provider);
+            }
+        }
+        return new DataProviderLookup(providers);
     }
 
     /**
@@ -189,9 +157,8 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      * @param <E> The element type of the value
      * @return The delegate data provider
      */
-    @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
-        return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        return this.getProviderLookup(dataHolderType).getProvider(key);
     }
 
     /**
@@ -201,7 +168,6 @@ public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key,
      */
     public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.key(), provider);
-        this.dataProviderCache.clear();
         this.dataProviderLookupCache.clear();
     }
 
@@ -55,6 +55,7 @@
 import net.minecraft.world.level.biome.BiomeManager;
 import net.minecraft.world.level.storage.LevelData;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
@@ -144,8 +145,13 @@ public static void performPostChangePlayerWorldLogic(final ServerPlayer player,
     }
 
     public static boolean processEntitySpawnsFromEvent(final SpawnEntityEvent event, final Supplier<Optional<UUID>> entityCreatorSupplier) {
+        return EntityUtil.processEntitySpawns(event.entities(), entityCreatorSupplier);
+    }
+
+    public static boolean processEntitySpawns(final List<? extends org.spongepowered.api.entity.Entity> entities,
+        final Supplier<Optional<UUID>> entityCreatorSupplier) {
         boolean spawnedAny = false;
-        for (final org.spongepowered.api.entity.Entity entity : event.entities()) {
+        for (final org.spongepowered.api.entity.Entity entity : entities) {
             // Here is where we need to handle the custom items potentially having custom entities
             spawnedAny = EntityUtil.processEntitySpawn(entity, entityCreatorSupplier, e ->  e.level.addFreshEntity(e));
         }
@@ -0,0 +1,348 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.Tag;
+import org.spongepowered.common.util.Constants;
+
+import java.util.Arrays;
+
+/**
+ * Stores the creator and notifier of the tracked block positions in a chunk.
+ *
+ * <p>Positions are grouped by chunk section. Each section keeps a palette of
+ * the owner indices used in it, as handed out by the level data, and one
+ * packed pair of palette indices per tracked block. Sections with few tracked
+ * blocks keep them in sorted parallel arrays, and switch to a flat array
+ * covering the whole section once they fill up.</p>
+ */
+public final class PlayerTrackerStorage {
+
+    public static final int NONE = -1;
+
+    private static final String SECTION_Y = "Y";
+    private static final String SECTION_PALETTE = "Palette";
+    private static final String SECTION_BLOCKS = "Blocks";
+
+    private final Int2ObjectMap<Section> sections = new Int2ObjectOpenHashMap<>();
+
+    public boolean isEmpty() {
+        return this.sections.isEmpty();
+    }
+
+    public boolean contains(final int x, final int y, final int z) {
+        final Section section = this.sections.get(y >> 4);
+        return section != null && section.get(PlayerTrackerStorage.localIndex(x, y, z)) != 0;
+    }
+
+    /**
+     * Gets the owner index tracked for the given position.
+     *
+     * @return The owner index, or {@link #NONE}
+     */
+    public int get(final int x, final int y, final int z, final PlayerTracker.Type type) {
+        final Section section = this.sections.get(y >> 4);
+        if (section == null) {
+            return PlayerTrackerStorage.NONE;
+        }
+        final int packed = section.get(PlayerTrackerStorage.localIndex(x, y, z));
+        return section.palette[type == PlayerTracker.Type.CREATOR ? Section.creator(packed) : Section.notifier(packed)];
+    }
+
+    /**
+     * Sets the owner index tracked for the given position, where
+     * {@link #NONE} clears it.
+     */
+    public void set(final int x, final int y, final int z, final PlayerTracker.Type type, final int ownerIndex) {
+        final int sectionY = y >> 4;
+        Section section = this.sections.get(sectionY);
+        if (section == null) {
+            if (ownerIndex == PlayerTrackerStorage.NONE) {
+                return;
+            }
+            section = new Section();
+            this.sections.put(sectionY, section);
+        }
+        final int local = PlayerTrackerStorage.localIndex(x, y, z);
+        final int packed = section.get(local);
+        final int paletteIndex = section.paletteIndex(ownerIndex);
+        if (type == PlayerTracker.Type.CREATOR) {
+            section.put(local, Section.pack(paletteIndex, Section.notifier(packed)));
+        } else {
+            section.put(local, Section.pack(Section.creator(packed), paletteIndex));
+        }
+        if (section.size == 0) {
+            this.sections.remove(sectionY);
+        }
+    }
+
+    public void remove(final int x, final int y, final int z) {
+        final int sectionY = y >> 4;
+        final Section section = this.sections.get(sectionY);
+        if (section != null) {
+            section.put(PlayerTrackerStorage.localIndex(x, y, z), 0);
+            if (section.size == 0) {
+                this.sections.remove(sectionY);
+            }
+        }
+    }
+
+    /**
+     * Writes the tracked positions into the given sponge chunk data, one
+     * compound per section holding its palette and a long per tracked block.
+     */
+    public void write(final CompoundTag spongeData) {
+        final ListTag sections = new ListTag();
+        for (final Int2ObjectMap.Entry<Section> entry : this.sections.int2ObjectEntrySet()) {
+            final CompoundTag sectionTag = entry.getValue().write();
+            sectionTag.putInt(PlayerTrackerStorage.SECTION_Y, entry.getIntKey());
+            sections.add(sectionTag);
+        }
+        spongeData.put(Constants.Sponge.SPONGE_TRACKED_BLOCK_SECTIONS, sections);
+    }
+
+    /**
+     * Reads the tracked positions from the given sponge chunk data, migrating
+     * the per block compounds written by older versions.
+     */
+    public void read(final CompoundTag spongeData) {
+        this.sections.clear();
+        final ListTag sections = spongeData.getList(Constants.Sponge.SPONGE_TRACKED_BLOCK_SECTIONS, Constants.NBT.TAG_COMPOUND);
+        for (final Tag tag : sections) {
+            final CompoundTag sectionTag = (CompoundTag) tag;
+            final Section section = Section.read(sectionTag);
+            if (section.size != 0) {
+                this.sections.put(sectionTag.getInt(PlayerTrackerStorage.SECTION_Y), section);
+            }
+        }
+
+        final ListTag legacy = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_COMPOUND);
+        for (final Tag tag : legacy) {
+            final CompoundTag data = (CompoundTag) tag;
+            final int x;
+            final int y;
+            final int z;
+            if (data.contains("pos")) {
+                final short pos = data.getShort("pos");
+                x = pos & Constants.Chunk.XZ_MASK;
+                y = (pos >> 4) & Constants.Chunk.Y_SHORT_MASK;
+                z = (pos >> 12) & Constants.Chunk.XZ_MASK;
+            } else {
+                final int pos = data.getInt("ipos");
+                x = pos & Constants.Chunk.XZ_MASK;
+                y = (pos >> 4) & Constants.Chunk.Y_INT_MASK;
+                z = (pos >>> 28) & Constants.Chunk.XZ_MASK;
+            }
+            if (data.contains("owner")) {
+                this.set(x, y, z, PlayerTracker.Type.CREATOR, data.getInt("owner"));
+            }
+            if (data.contains("notifier")) {
+                this.set(x, y, z, PlayerTracker.Type.NOTIFIER, data.getInt("notifier"));
+            }
+        }
+    }
+
+    private static int localIndex(final int x, final int y, final int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private static final class Section {
+
+        private static final int BLOCKS = 16 * 16 * 16;
+        // Around here the sorted arrays take about as much room as a flat one, and inserts into them get slow
+        private static final int DENSE_THRESHOLD = Section.BLOCKS / 2;
+
+        // Palette index 0 is always "no owner", so a packed entry of 0 means the block isn't tracked
+        int[] palette = {PlayerTrackerStorage.NONE};
+        int paletteSize = 1;
+
+        // Sorted local positions and their entries, both null once the section goes dense
+        short[] positions = new short[4];
+        int[] entries = new int[4];
+        // Entries by local position, null until the section goes dense
+        int[] dense;
+        int size;
+
+        static int pack(final int creator, final int notifier) {
+            return creator | notifier << 16;
+        }
+
+        static int creator(final int packed) {
+            return packed & 0xFFFF;
+        }
+
+        static int notifier(final int packed) {
+            return packed >>> 16;
+        }
+
+        int paletteIndex(final int ownerIndex) {
+            for (int i = 0; i < this.paletteSize; i++) {
+                if (this.palette[i] == ownerIndex) {
+                    return i;
+                }
+            }
+            if (this.paletteSize == 0xFFFF) {
+                this.compactPalette();
+                return this.paletteIndex(ownerIndex);
+            }
+            if (this.paletteSize == this.palette.length) {
+                this.palette = Arrays.copyOf(this.palette, this.paletteSize * 2);
+            }
+            this.palette[this.paletteSize] = ownerIndex;
+            return this.paletteSize++;
+        }
+
+        int get(final int local) {
+            if (this.dense != null) {
+                return this.dense[local];
+            }
+            final int found = Arrays.binarySearch(this.positions, 0, this.size, (short) local);
+            return found < 0 ? 0 : this.entries[found];
+        }
+
+        void put(final int local, final int packed) {
+            if (this.dense != null) {
+                final int previous = this.dense[local];
+                this.dense[local] = packed;
+                if (previous == 0 && packed != 0) {
+                    this.size++;
+                } else if (previous != 0 && packed == 0) {
+                    this.size--;
+                }
+                return;
+            }
+            final int found = Arrays.binarySearch(this.positions, 0, this.size, (short) local);
+            if (found >= 0) {
+                if (packed != 0) {
+                    this.entries[found] = packed;
+                } else {
+                    System.arraycopy(this.positions, found + 1, this.positions, found, this.size - found - 1);
+                    System.arraycopy(this.entries, found + 1, this.entries, found, this.size - found - 1);
+                    this.size--;
+                }
+                return;
+            }
+            if (packed == 0) {
+                return;
+            }
+            if (this.size == Section.DENSE_THRESHOLD) {
+                this.dense = new int[Section.BLOCKS];
+                for (int i = 0; i < this.size; i++) {
+                    this.dense[this.positions[i]] = this.entries[i];
+                }
+                this.dense[local] = packed;
+                this.size++;
+                this.positions = null;
+                this.entries = null;
+                return;
+            }
+            final int insert = -found - 1;
+            if (this.size == this.positions.length) {
+                this.positions = Arrays.copyOf(this.positions, this.size * 2);
+                this.entries = Arrays.copyOf(this.entries, this.size * 2);
+            }
+            System.arraycopy(this.positions, insert, this.positions, insert + 1, this.size - insert);
+            System.arraycopy(this.entries, insert, this.entries, insert + 1, this.size - insert);
+            this.positions[insert] = (short) local;
+            this.entries[insert] = packed;
+            this.size++;
+        }
+
+        /**
+         * Drops palette entries that no tracked block refers to any more.
+         */
+        void compactPalette() {
+            final int[] remap = new int[this.paletteSize];
+            final int[] palette = new int[this.paletteSize];
+            palette[0] = PlayerTrackerStorage.NONE;
+            int paletteSize = 1;
+            final int[] entries = this.dense != null ? this.dense : this.entries;
+            final int count = this.dense != null ? Section.BLOCKS : this.size;
+            for (int i = 0; i < count; i++) {
+                final int packed = entries[i];
+                if (packed == 0) {
+                    continue;
+                }
+                final int creator = Section.creator(packed);
+                final int notifier = Section.notifier(packed);
+                if (creator != 0 && remap[creator] == 0) {
+                    palette[paletteSize] = this.palette[creator];
+                    remap[creator] = paletteSize++;
+                }
+                if (notifier != 0 && remap[notifier] == 0) {
+                    palette[paletteSize] = this.palette[notifier];
+                    remap[notifier] = paletteSize++;
+                }
+                entries[i] = Section.pack(remap[creator], remap[notifier]);
+            }
+            this.palette = palette;
+            this.paletteSize = paletteSize;
+        }
+
+        CompoundTag write() {
+            this.compactPalette();
+            final long[] blocks = new long[this.size];
+            if (this.dense != null) {
+                int next = 0;
+                for (int local = 0; local < Section.BLOCKS; local++) {
+                    if (this.dense[local] != 0) {
+                        blocks[next++] = local | (long) this.dense[local] << 12;
+                    }
+                }
+            } else {
+                for (int i = 0; i < this.size; i++) {
+                    blocks[i] = this.positions[i] | (long) this.entries[i] << 12;
+                }
+            }
+            final CompoundTag tag = new CompoundTag();
+            tag.put(PlayerTrackerStorage.SECTION_PALETTE, new IntArrayTag(Arrays.copyOf(this.palette, this.paletteSize)));
+            tag.put(PlayerTrackerStorage.SECTION_BLOCKS, new LongArrayTag(blocks));
+            return tag;
+        }
+
+        static Section read(final CompoundTag tag) {
+            final Section section = new Section();
+            final int[] palette = tag.getIntArray(PlayerTrackerStorage.SECTION_PALETTE);
+            if (palette.length > 0) {
+                section.palette = palette;
+                section.paletteSize = palette.length;
+            }
+            for (final long block : tag.getLongArray(PlayerTrackerStorage.SECTION_BLOCKS)) {
+                final int local = (int) (block & 0xFFF);
+                final int packed = (int) (block >>> 12);
+                if (Section.creator(packed) < section.paletteSize && Section.notifier(packed) < section.paletteSize) {
+                    section.put(local, packed);
+                }
+            }
+            return section;
+        }
+    }
+}
@@ -128,7 +128,7 @@ public int contentVersion() {
 
     @Override
     public DataContainer toContainer() {
-        final DataContainer unsafeNbt = NBTTranslator.INSTANCE.translateFrom(this.compound == null ? new CompoundTag() : this.compound);
+        final DataContainer unsafeNbt = NBTTranslator.INSTANCE.wrap(this.compound == null ? new CompoundTag() : this.compound);
         final DataContainer container = DataContainer.createNew()
                 .set(Queries.CONTENT_VERSION, this.contentVersion())
                 .set(Queries.WORLD_KEY, this.worldKey.formatted())
@@ -247,7 +247,7 @@ public EntityArchetype createArchetype() {
         final EntityArchetype.Builder builder = new SpongeEntityArchetypeBuilder();
         builder.type(this.entityType);
         if (this.compound != null) {
-            builder.entityData(NBTTranslator.INSTANCE.translate(this.compound));
+            builder.entityData(NBTTranslator.INSTANCE.wrap(this.compound));
         }
         return builder.build();
     }
@@ -257,7 +257,7 @@ public EntityArchetype createArchetype() {
         if (this.compound == null) {
             return DataContainer.createNew();
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.wrap(this.compound);
     }
 
     @Override
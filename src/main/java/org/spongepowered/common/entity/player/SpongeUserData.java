@@ -86,11 +86,13 @@
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
@@ -394,20 +396,56 @@ public void markDirty() {
         ((SpongeServer) SpongeCommon.server()).userManager().markDirty(this);
     }
 
-    public void save() throws IOException {
+    /**
+     * Copies the current state of this user so that it can be written by
+     * {@link #write(CompoundTag)} from another thread. The user is no longer
+     * considered dirty afterwards, any later change marks it dirty again.
+     *
+     * @return A copy of the user data, as it would be saved
+     */
+    public CompoundTag snapshot() {
         synchronized (this) {
-            final SpongeUserManager userManager = ((SpongeServer) SpongeCommon.server()).userManager();
-            final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
-            final File file = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.uniqueId() + ".dat").toFile();
+            ((SpongeServer) SpongeCommon.server()).userManager().unmarkDirty(this);
             this.writeCompound(this.compound);
-            try (final FileOutputStream out = new FileOutputStream(file)) {
-                NbtIo.writeCompressed(this.compound, out);
-                userManager.unmarkDirty(this);
-            } catch (final IOException e) {
-                // We log the message here because the error may be swallowed by a completable future.
-                SpongeCommon.logger().warn("Failed to save user file [{}]!", file, e);
-                throw e;
+            return this.compound.copy();
+        }
+    }
+
+    /**
+     * Writes a {@link #snapshot()} of this user to its player data file. The
+     * data is written to a temporary file first and then moved over the old
+     * one, so a reader never sees a partially written file. Writes for the
+     * same user are ordered by the {@link SpongeUserManager}, so this should
+     * not be called directly.
+     *
+     * @param snapshot The snapshot to write
+     * @throws IOException If the file could not be written, in which case
+     *     the user is marked dirty again
+     */
+    public void write(final CompoundTag snapshot) throws IOException {
+        final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
+        final Path directory = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR);
+        final Path file = directory.resolve(this.uniqueId() + ".dat");
+        @Nullable Path temp = null;
+        try {
+            // Doesn't end in .dat, so neither vanilla nor the user manager will pick it up as a player
+            temp = Files.createTempFile(directory, this.uniqueId() + "-", ".tmp");
+            try (final OutputStream out = Files.newOutputStream(temp)) {
+                NbtIo.writeCompressed(snapshot, out);
             }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException e) {
+            // We log the message here because the error may be swallowed by a completable future.
+            SpongeCommon.logger().warn("Failed to save user file [{}]!", file, e);
+            if (temp != null) {
+                Files.deleteIfExists(temp);
+            }
+            this.markDirty();
+            throw e;
         }
     }
 
@@ -58,12 +58,22 @@ public final class ShouldFire {
 
     public static boolean CLICK_CONTAINER_EVENT = false;
     public static boolean CLICK_CONTAINER_EVENT_DOUBLE = false;
+    public static boolean CLICK_CONTAINER_EVENT_CREATIVE = false;
+    public static boolean CHANGE_INVENTORY_EVENT_PICKUP = false;
+    public static boolean CHANGE_INVENTORY_EVENT_PICKUP_PRE = false;
+    public static boolean INTERACT_CONTAINER_EVENT_OPEN = false;
+    public static boolean INTERACT_CONTAINER_EVENT_CLOSE = false;
+    public static boolean ENCHANT_ITEM_EVENT_CALCULATE_LEVEL_REQUIREMENT = false;
+    public static boolean ENCHANT_ITEM_EVENT_CALCULATE_ENCHANTMENT = false;
+    public static boolean ENCHANT_ITEM_EVENT_POST = false;
+    public static boolean CHANGE_ENTITY_EQUIPMENT_EVENT = false;
 
     public static boolean CONSTRUCT_ENTITY_EVENT_PRE = false;
 
     public static boolean DESTRUCT_ENTITY_EVENT = false;
 
     public static boolean DROP_ITEM_EVENT = false;
+    public static boolean DROP_ITEM_EVENT_PRE = false;
     public static boolean DROP_ITEM_EVENT_DESTRUCT = false;
     public static boolean DROP_ITEM_EVENT_DISPENSE = false;
 
@@ -99,12 +109,15 @@ public final class ShouldFire {
     public static boolean NOTIFY_NEIGHBOR_BLOCK_EVENT = false;
     public static boolean EXPLOSION_EVENT_PRE = false;
     public static boolean EXPLOSION_EVENT_DETONATE = false;
+    public static boolean DETONATE_EXPLOSIVE_EVENT = false;
     public static boolean COLLIDE_ENTITY_EVENT = false;
+    public static boolean COLLIDE_ENTITY_EVENT_IMPACT = false;
 
     public static boolean COLLIDE_BLOCK_EVENT_MOVE = false;
     public static boolean COLLIDE_BLOCK_EVENT_FALL = false;
     public static boolean COLLIDE_BLOCK_EVENT_STEP_ON = false;
     public static boolean COLLIDE_BLOCK_EVENT_INSIDE = false;
+    public static boolean COLLIDE_BLOCK_EVENT_IMPACT = false;
 
     public static boolean BREEDING_EVENT_READY_TO_MATE = false;
     public static boolean BREEDING_EVENT_FIND_MATE = false;
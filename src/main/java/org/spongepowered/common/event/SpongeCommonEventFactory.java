@@ -169,6 +169,9 @@ public final class SpongeCommonEventFactory {
 
     public static boolean callSpawnEntity(final List<Entity> entities, final PhaseContext<?> context) {
         PhaseTracker.getCauseStackManager().currentContext().require(EventContextKeys.SPAWN_TYPE);
+        if (!ShouldFire.SPAWN_ENTITY_EVENT) {
+            return EntityUtil.processEntitySpawns(entities, EntityUtil.ENTITY_CREATOR_FUNCTION.apply(context));
+        }
         try {
             final SpawnEntityEvent event = SpongeEventFactory.createSpawnEntityEvent(PhaseTracker.getCauseStackManager().currentCause(), entities);
             SpongeCommon.post(event);
@@ -227,6 +230,9 @@ public static <T extends net.minecraft.world.entity.Entity> CollideEntityEvent c
     public static boolean handlePistonEvent(
         final TrackedWorldBridge world, final BlockPos pos, final net.minecraft.world.level.block.state.BlockState blockstate, final int eventId
     ) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
+            return false;
+        }
         final boolean extending = (eventId == 0);
         final net.minecraft.core.Direction direction = blockstate.getValue(DirectionalBlock.FACING);
         final LocatableBlock locatable = new SpongeLocatableBlockBuilder().world((ServerWorld) world).state((BlockState) blockstate).position(pos.getX(), pos.getY(), pos.getZ()).build();
@@ -594,7 +600,7 @@ public static DestructEntityEvent.Death callDestructEntityEventDeath(final Livin
     public static boolean handleCollideBlockEvent(final Block block, final Level world, final BlockPos pos,
             final net.minecraft.world.level.block.state.BlockState state,
             final net.minecraft.world.entity.Entity entity, final Direction direction, final CollisionType type) {
-        if (world.isClientSide() || pos.getY() <= 0) {
+        if (world.isClientSide() || pos.getY() <= 0 || !SpongeCommonEventFactory.shouldFireCollideBlockEvent(type)) {
             return false;
         }
 
@@ -644,9 +650,40 @@ public static boolean handleCollideBlockEvent(final Block block, final Level wor
         }
     }
 
+    private static boolean shouldFireCollideBlockEvent(final CollisionType type) {
+        switch (type) {
+            case MOVE:
+                return ShouldFire.COLLIDE_BLOCK_EVENT_MOVE;
+            case FALL:
+                return ShouldFire.COLLIDE_BLOCK_EVENT_FALL;
+            case STEP_ON:
+                return ShouldFire.COLLIDE_BLOCK_EVENT_STEP_ON;
+            case INSIDE:
+                return ShouldFire.COLLIDE_BLOCK_EVENT_INSIDE;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type);
+        }
+    }
+
     public static boolean handleCollideImpactEvent(final net.minecraft.world.entity.Entity projectile, final @Nullable ProjectileSource projectileSource,
             final HitResult movingObjectPosition) {
         final HitResult.Type movingObjectType = movingObjectPosition.getType();
+        if (movingObjectType == HitResult.Type.BLOCK && !ShouldFire.COLLIDE_BLOCK_EVENT_IMPACT) {
+            // Nobody can cancel the impact, but the creator still gets tracked on the block
+            final BlockPos blockPos = ((BlockHitResult) movingObjectPosition).getBlockPos();
+            if (blockPos.getY() > 0) {
+                PhaseTracker.getInstance().getPhaseContext().getCreator().ifPresent(creator -> {
+                    final BlockPos targetPos = new BlockPos(movingObjectPosition.getLocation());
+                    final LevelChunkBridge spongeChunk = (LevelChunkBridge) projectile.level.getChunkAt(targetPos);
+                    spongeChunk.bridge$addTrackedBlockPosition(projectile.level.getBlockState(blockPos).getBlock(), targetPos, creator,
+                        PlayerTracker.Type.NOTIFIER);
+                });
+            }
+            return false;
+        }
+        if (movingObjectType == HitResult.Type.ENTITY && !ShouldFire.COLLIDE_ENTITY_EVENT_IMPACT) {
+            return false;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(projectile);
             frame.addContext(EventContextKeys.PROJECTILE_SOURCE, projectileSource == null
@@ -690,8 +727,22 @@ public static boolean handleCollideImpactEvent(final net.minecraft.world.entity.
         }
     }
 
-    public static InteractContainerEvent.Close callInteractInventoryCloseEvent(final AbstractContainerMenu container, final net.minecraft.server.level.ServerPlayer player,
+    /**
+     * Fires the {@link InteractContainerEvent.Close} and applies its outcome.
+     *
+     * @return if the event was cancelled
+     */
+    public static boolean callInteractInventoryCloseEvent(final AbstractContainerMenu container, final net.minecraft.server.level.ServerPlayer player,
             final ItemStackSnapshot lastCursor, final ItemStackSnapshot newCursor, final boolean clientSource) {
+        if (!ShouldFire.INTERACT_CONTAINER_EVENT_CLOSE) {
+            final TrackedInventoryBridge mixinContainer = (TrackedInventoryBridge) player.containerMenu;
+            mixinContainer.bridge$getCapturedSlotTransactions().clear();
+            mixinContainer.bridge$setCaptureInventory(false);
+            if (!clientSource && player.containerMenu != null && player.connection != null) {
+                player.closeContainer();
+            }
+            return false;
+        }
         final Transaction<ItemStackSnapshot> cursorTransaction = new Transaction<>(lastCursor, newCursor);
         final InteractContainerEvent.Close event =
                 SpongeEventFactory.createInteractContainerEventClose(PhaseTracker.getCauseStackManager().currentCause(), ContainerUtil.fromNative(container), cursorTransaction);
@@ -742,7 +793,7 @@ public static InteractContainerEvent.Close callInteractInventoryCloseEvent(final
             }
         }
 
-        return event;
+        return event.isCancelled();
     }
 
     public static SetAITargetEvent callSetAttackTargetEvent(final @Nullable Entity target, final Agent agent) {
@@ -752,23 +803,29 @@ public static SetAITargetEvent callSetAttackTargetEvent(final @Nullable Entity t
     }
 
     public static Optional<net.minecraft.world.level.Explosion> detonateExplosive(final ExplosiveBridge explosiveBridge, final Explosion.Builder builder) {
+        if (!ShouldFire.DETONATE_EXPLOSIVE_EVENT) {
+            return Optional.of(SpongeCommonEventFactory.triggerExplosion(explosiveBridge, builder.build()));
+        }
         final DetonateExplosiveEvent event = SpongeEventFactory.createDetonateExplosiveEvent(
                 PhaseTracker.getCauseStackManager().currentCause(), builder, (Explosive) explosiveBridge, builder.build()
         );
         if (!Sponge.eventManager().post(event)) {
-            final Explosion explosion = event.explosionBuilder().build();
-            if (explosion.radius() > 0) {
-                ((TrackedWorldBridge) ((Explosive) explosiveBridge).world())
-                    .tracker$triggerInternalExplosion(
-                        explosion,
-                        e -> GeneralPhase.State.EXPLOSION.createPhaseContext(PhaseTracker.SERVER).explosion(e)
-                    );
-            }
-            return Optional.of((net.minecraft.world.level.Explosion) explosion);
+            return Optional.of(SpongeCommonEventFactory.triggerExplosion(explosiveBridge, event.explosionBuilder().build()));
         }
         return Optional.empty();
     }
 
+    private static net.minecraft.world.level.Explosion triggerExplosion(final ExplosiveBridge explosiveBridge, final Explosion explosion) {
+        if (explosion.radius() > 0) {
+            ((TrackedWorldBridge) ((Explosive) explosiveBridge).world())
+                .tracker$triggerInternalExplosion(
+                    explosion,
+                    e -> GeneralPhase.State.EXPLOSION.createPhaseContext(PhaseTracker.SERVER).explosion(e)
+                );
+        }
+        return (net.minecraft.world.level.Explosion) explosion;
+    }
+
     /**
      * @author gabizou - April 19th, 2018
      * Creates two events here:
@@ -802,17 +859,27 @@ public static Optional<net.minecraft.world.level.Explosion> detonateExplosive(fi
         frame.pushCause(entity);
 
         // FIRST we want to throw the DropItemEvent.PRE
-        final DropItemEvent.Pre dropEvent = SpongeEventFactory.createDropItemEventPre(frame.currentCause(),
-            ImmutableList.of(snapshot), original);
-        SpongeCommon.post(dropEvent);
-        if (dropEvent.isCancelled()) {
-            if (mixinPlayer != null) {
-                mixinPlayer.bridge$shouldRestoreInventory(true);
+        final ItemStackSnapshot dropped;
+        if (ShouldFire.DROP_ITEM_EVENT_PRE) {
+            final DropItemEvent.Pre dropEvent = SpongeEventFactory.createDropItemEventPre(frame.currentCause(),
+                ImmutableList.of(snapshot), original);
+            SpongeCommon.post(dropEvent);
+            if (dropEvent.isCancelled()) {
+                if (mixinPlayer != null) {
+                    mixinPlayer.bridge$shouldRestoreInventory(true);
+                }
+                return null;
             }
-            return null;
+            if (dropEvent.droppedItems().isEmpty()) {
+                return null;
+            }
+            dropped = dropEvent.droppedItems().get(0);
+        } else {
+            dropped = snapshot;
         }
-        if (dropEvent.droppedItems().isEmpty()) {
-            return null;
+
+        if (!ShouldFire.CONSTRUCT_ENTITY_EVENT_PRE) {
+            return ItemStackUtil.fromSnapshotToNative(dropped);
         }
 
         // SECOND throw the ConstructEntityEvent
@@ -828,7 +895,7 @@ public static Optional<net.minecraft.world.level.Explosion> detonateExplosive(fi
             return null;
         }
 
-        item = event.isCancelled() ? null : ItemStackUtil.fromSnapshotToNative(dropEvent.droppedItems().get(0));
+        item = event.isCancelled() ? null : ItemStackUtil.fromSnapshotToNative(dropped);
         if (item == null) {
             // Make sure the player is restoring inventories
             if (mixinPlayer != null) {
@@ -75,6 +75,7 @@
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedContainerBridge;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedInventoryBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
@@ -94,6 +95,9 @@ public class InventoryEventFactory {
 
 
     public static boolean callPlayerChangeInventoryPickupPreEvent(final Player player, final ItemEntity itemToPickup, final int pickupDelay) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP_PRE) {
+            return true;
+        }
         final ItemStack stack = itemToPickup.getItem();
         final CauseStackManager causeStackManager = PhaseTracker.getCauseStackManager();
         causeStackManager.pushCause(player);
@@ -146,6 +150,10 @@ public static boolean callPlayerChangeInventoryPickupEvent(final Player player,
         if (inventory.bridge$getCapturedSlotTransactions().isEmpty()) {
             return true;
         }
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP) {
+            inventory.bridge$getCapturedSlotTransactions().clear();
+            return true;
+        }
         PhaseTracker.getCauseStackManager().pushCause(player);
         final ChangeInventoryEvent.Pickup event = SpongeEventFactory.createChangeInventoryEventPickup(PhaseTracker.getCauseStackManager().currentCause(), (Inventory) player.containerMenu,
                 inventory.bridge$getCapturedSlotTransactions());
@@ -158,6 +166,9 @@ public static boolean callPlayerChangeInventoryPickupEvent(final Player player,
 
 
     public static ItemStack callInventoryPickupEvent(final Container inventory, final ItemEntity item, final ItemStack stack) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP_PRE && !ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP) {
+            return HopperBlockEntity.addItem(null, inventory, stack, null);
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(inventory);
 
@@ -212,6 +223,9 @@ public static ItemStack callInventoryPickupEvent(final Container inventory, fina
     }
 
     private static boolean callInventoryPickupEvent(final Container inventory, final ItemStack[] prevInventory) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP) {
+            return true;
+        }
         final Inventory spongeInventory = InventoryUtil.toInventory(inventory, null);
         final List<SlotTransaction> trans = InventoryEventFactory.generateTransactions(spongeInventory, inventory, prevInventory);
         if (trans.isEmpty()) {
@@ -289,6 +303,9 @@ public static ClickContainerEvent.Creative callCreativeClickContainerEvent(final
     }
 
     public static boolean callInteractContainerOpenEvent(final ServerPlayer player) {
+        if (!ShouldFire.INTERACT_CONTAINER_EVENT_OPEN) {
+            return true;
+        }
         final ItemStackSnapshot newCursor = ItemStackUtil.snapshotOf(player.inventory.getCarried());
         final Transaction<ItemStackSnapshot> cursorTransaction = new Transaction<>(ItemStackSnapshot.empty(), newCursor);
         final InteractContainerEvent.Open event =
@@ -387,8 +404,12 @@ public static void callTransferPost(final @Nullable TrackedInventoryBridge captu
         if (captureSource == null || source == null || destination == null || sourceSlotTransaction == null) {
             return;
         }
-        PhaseTracker.getCauseStackManager().pushCause(source);
         List<SlotTransaction> slotTransactions = captureSource.bridge$getCapturedSlotTransactions();
+        if (!ShouldFire.TRANSFER_INVENTORY_EVENT_POST) {
+            slotTransactions.clear();
+            return;
+        }
+        PhaseTracker.getCauseStackManager().pushCause(source);
 
         sourceStack = sourceStack.copy();
         sourceStack.setCount(1);
@@ -551,6 +572,9 @@ public static ChangeEntityEquipmentEvent callChangeEntityEquipmentEvent(
 
 
     public static int callEnchantEventLevelRequirement(EnchantmentMenu container, int seed, int option, int power, ItemStack itemStack, int levelRequirement) {
+        if (!ShouldFire.ENCHANT_ITEM_EVENT_CALCULATE_LEVEL_REQUIREMENT) {
+            return levelRequirement;
+        }
         org.spongepowered.api.item.inventory.Container enchantContainer = ContainerUtil.fromNative(container);
 
         Player viewer = (Player) enchantContainer.viewer();
@@ -568,6 +592,9 @@ public static int callEnchantEventLevelRequirement(EnchantmentMenu container, in
 
     public static List<EnchantmentInstance> callEnchantEventEnchantmentList(EnchantmentMenu container,
             int seed, ItemStack itemStack, int option, int level, List<EnchantmentInstance> list) {
+        if (!ShouldFire.ENCHANT_ITEM_EVENT_CALCULATE_ENCHANTMENT) {
+            return list;
+        }
 
         List<Enchantment> enchList = Collections.unmodifiableList(SpongeRandomEnchantmentListBuilder.fromNative(list));
 
@@ -511,7 +511,9 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
         if (blockEntity != null) {
-            TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+            // The block entity is only saved once the snapshot data is needed,
+            // callers about to change it destructively must capture it first
+            builder.deferredBlockEntity(blockEntity);
         }
         builder.flag(updateFlag);
         return builder.build();
@@ -25,7 +25,6 @@
 package org.spongepowered.common.event.tracking.context.transaction;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMultimap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
@@ -66,8 +65,12 @@
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
@@ -87,6 +90,10 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier {
     private @Nullable GameTransaction tail;
     private @Nullable GameTransaction head;
     private @Nullable ResultingTransactionBySideEffect effect;
+    // Reusable buffers for processTransactions, null while in use. Each phase context owns
+    // its supplier and pooled contexts keep it across uses, so these are pooled with the context.
+    private @Nullable List<EventByTransaction<@NonNull ?>> batchedBuffer;
+    private @Nullable List<Event> postEventBuffer;
 
     public TransactionalCaptureSupplier() {
     }
@@ -247,6 +254,7 @@ private GameTransaction createTileReplacementTransaction(final BlockPos pos, fin
             Optional::empty, Optional::empty
         );
         snapshot.blockChange = BlockChange.MODIFY;
+        snapshot.captureBlockEntityData();
 
         return new ReplaceTileEntity(proposed, existing, snapshot);
     }
@@ -267,6 +275,7 @@ public EffectTransactor logBlockDrops(
             Optional::empty, Optional::empty
         );
         original.blockChange = BlockChange.MODIFY;
+        original.captureBlockEntityData();
         final PrepareBlockDropsTransaction transaction = new PrepareBlockDropsTransaction(pos, state, original);
         if (this.tail == null || !this.tail.acceptDrops(transaction)) {
             this.logTransaction(transaction);
@@ -373,6 +382,7 @@ private RemoveTileEntity createTileRemovalTransaction(final BlockEntity tileenti
             Optional::empty, Optional::empty
         );
         snapshot.blockChange = BlockChange.MODIFY;
+        snapshot.captureBlockEntityData();
 
         return new RemoveTileEntity(tileentity, snapshot);
     }
@@ -419,111 +429,185 @@ public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
         if ((GameTransaction<@NonNull ?>) this.head == null) {
             return false;
         }
-        final ImmutableMultimap.Builder<TransactionType, ? extends Event> builder = ImmutableMultimap.builder();
-        final ImmutableList<EventByTransaction<@NonNull ?>> batched = TransactionalCaptureSupplier.batchTransactions(
-            this.head, this.head, context, builder
-        );
-        boolean cancelledAny = false;
-        for (final EventByTransaction<@NonNull ?> eventWithTransactions : batched) {
-            final Event event = eventWithTransactions.event;
-            if (eventWithTransactions.isParentOrDeciderCancelled()) {
-                cancelledAny = true;
-                eventWithTransactions.markCancelled();
-                continue;
-            }
-            Sponge.eventManager().post(event);
-            if (event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
-                eventWithTransactions.markCancelled();
-                cancelledAny = true;
-            }
-            if (((GameTransaction) eventWithTransactions.decider).markCancelledTransactions(event, eventWithTransactions.transactions)) {
-                cancelledAny = true;
-            }
-            for (final GameTransaction<@NonNull ?> transaction : eventWithTransactions.transactions) {
-                if (transaction.cancelled) {
-                    ((GameTransaction) transaction).markEventAsCancelledIfNecessary(eventWithTransactions.event);
+        // Take the reusable buffers, posting events may cause this supplier to be
+        // processed again in which case it falls back to fresh buffers
+        final @Nullable List<EventByTransaction<@NonNull ?>> pooledBatched = this.batchedBuffer;
+        final @Nullable List<Event> pooledPostEvents = this.postEventBuffer;
+        this.batchedBuffer = null;
+        this.postEventBuffer = null;
+        final List<EventByTransaction<@NonNull ?>> batched = pooledBatched == null ? new ArrayList<>() : pooledBatched;
+        final List<Event> postEvents = pooledPostEvents == null ? new ArrayList<>() : pooledPostEvents;
+        try {
+            TransactionalCaptureSupplier.batchTransactions(this.head, this.head, context, batched);
+            boolean cancelledAny = false;
+            for (int i = 0, size = batched.size(); i < size; i++) {
+                final EventByTransaction<@NonNull ?> eventWithTransactions = batched.get(i);
+                final Event event = eventWithTransactions.event;
+                if (eventWithTransactions.isParentOrDeciderCancelled()) {
+                    cancelledAny = true;
+                    eventWithTransactions.markCancelled();
+                    continue;
                 }
-                if (!transaction.cancelled) {
-                    ((GameTransaction) transaction).postProcessEvent(context, event);
+                Sponge.eventManager().post(event);
+                if (event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+                    eventWithTransactions.markCancelled();
+                    cancelledAny = true;
                 }
-            }
-        }
-        if (cancelledAny) {
-            for (final EventByTransaction<@NonNull ?> eventByTransaction : batched.reverse()) {
-                if (eventByTransaction.decider.cancelled) {
-                    ((GameTransaction) eventByTransaction.decider).markEventAsCancelledIfNecessary(eventByTransaction.event);
+                if (((GameTransaction) eventWithTransactions.decider).markCancelledTransactions(event, eventWithTransactions.transactions)) {
+                    cancelledAny = true;
                 }
-                for (final GameTransaction<@NonNull ?> gameTransaction : eventByTransaction.transactions.reverse()) {
-                    if (gameTransaction.cancelled) {
-                        gameTransaction.restore();
+                for (final GameTransaction<@NonNull ?> transaction : eventWithTransactions.transactions) {
+                    if (transaction.cancelled) {
+                        ((GameTransaction) transaction).markEventAsCancelledIfNecessary(eventWithTransactions.event);
+                    }
+                    if (!transaction.cancelled) {
+                        ((GameTransaction) transaction).postProcessEvent(context, event);
                     }
                 }
             }
+            if (cancelledAny) {
+                for (int i = batched.size() - 1; i >= 0; i--) {
+                    final EventByTransaction<@NonNull ?> eventByTransaction = batched.get(i);
+                    if (eventByTransaction.decider.cancelled) {
+                        ((GameTransaction) eventByTransaction.decider).markEventAsCancelledIfNecessary(eventByTransaction.event);
+                    }
+                    final List<? extends GameTransaction<@NonNull ?>> transactions = eventByTransaction.transactions;
+                    for (int j = transactions.size() - 1; j >= 0; j--) {
+                        final GameTransaction<@NonNull ?> gameTransaction = transactions.get(j);
+                        if (gameTransaction.cancelled) {
+                            gameTransaction.restore();
+                        }
+                    }
+                }
+            }
+            TransactionalCaptureSupplier.processPostEvents(context, batched, postEvents);
+            return !cancelledAny;
+        } finally {
+            batched.clear();
+            postEvents.clear();
+            this.batchedBuffer = batched;
+            this.postEventBuffer = postEvents;
         }
-        builder.build().asMap()
-            .forEach((transactionType, events) -> transactionType.createAndProcessPostEvents(context, events));
-        return !cancelledAny;
     }
 
+    /**
+     * Hands the generated events to their transaction types for post
+     * processing, grouped by type in the order each type was first seen.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void processPostEvents(final PhaseContext<@NonNull ?> context,
+        final List<EventByTransaction<@NonNull ?>> batched, final List<Event> postEvents
+    ) {
+        final int size = batched.size();
+        if (size == 0) {
+            return;
+        }
+        // Most batches only have a single type, which is collected straight into the
+        // reusable list. Any other types are grouped in the same pass, in the order seen.
+        final TransactionType first = batched.get(0).decider.getTransactionType();
+        @Nullable Map<TransactionType, List<Event>> others = null;
+        for (int i = 0; i < size; i++) {
+            final EventByTransaction<@NonNull ?> eventByTransaction = batched.get(i);
+            final TransactionType type = eventByTransaction.decider.getTransactionType();
+            if (type.equals(first)) {
+                postEvents.add(eventByTransaction.event);
+            } else {
+                if (others == null) {
+                    others = new LinkedHashMap<>();
+                }
+                others.computeIfAbsent(type, k -> new ArrayList<>()).add(eventByTransaction.event);
+            }
+        }
+        first.createAndProcessPostEvents(context, postEvents);
+        postEvents.clear();
+        if (others != null) {
+            for (final Map.Entry<TransactionType, List<Event>> entry : others.entrySet()) {
+                entry.getKey().createAndProcessPostEvents(context, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Splits the transactions starting at the given head into batches and
+     * appends an event for each batch, followed by the events of its side
+     * effects, to the given list. Batches are contiguous runs of the linked
+     * transactions and are only copied into a list once their event is built.
+     */
     @SuppressWarnings("unchecked")
-    static ImmutableList<EventByTransaction<@NonNull ?>> batchTransactions(
+    static void batchTransactions(
         final GameTransaction head,
         final GameTransaction parent,
         final PhaseContext<@NonNull ?> context,
-        final ImmutableMultimap.Builder<TransactionType, ? extends Event> transactionPostEventBuilder
+        final List<EventByTransaction<@NonNull ?>> batched
     ) {
-        final ImmutableList.Builder<EventByTransaction<@NonNull ?>> builder = ImmutableList.builder();
         @Nullable GameTransaction pointer = head;
-        ImmutableList.Builder<GameTransaction> accumilator = ImmutableList.builder();
+        @Nullable GameTransaction batchStart = null;
+        int batchSize = 0;
         @MonotonicNonNull GameTransaction batchDecider = null;
         while (pointer != null) {
             if (batchDecider == null) {
                 batchDecider = pointer;
             }
             if (batchDecider.shouldBuildEventAndRestartBatch(pointer, context)) {
-                final ImmutableList<GameTransaction> transactions = accumilator.build();
-                accumilator = ImmutableList.builder();
-                TransactionalCaptureSupplier.generateEventForTransaction(
-                    batchDecider,
-                    parent,
-                    context,
-                    builder,
-                    (ImmutableList) transactions,
-                    transactionPostEventBuilder
-                );
-                accumilator.add(pointer);
+                if (batchSize != 0) {
+                    TransactionalCaptureSupplier.generateEventForTransaction(
+                        batchDecider,
+                        parent,
+                        context,
+                        batched,
+                        (ImmutableList) TransactionalCaptureSupplier.batchOf(Objects.requireNonNull(batchStart), batchSize)
+                    );
+                }
+                batchStart = null;
+                batchSize = 0;
                 batchDecider = pointer;
                 continue;
-            } else if (pointer.hasAnyPrimaryChildrenTransactions() || pointer.isUnbatchable() || pointer.next == null) {
-                accumilator.add(pointer);
-                final ImmutableList<GameTransaction> transactions = accumilator.build();
-                accumilator = ImmutableList.builder();
+            }
+            if (batchSize++ == 0) {
+                batchStart = pointer;
+            }
+            if (pointer.hasAnyPrimaryChildrenTransactions() || pointer.isUnbatchable() || pointer.next == null) {
+                final ImmutableList<GameTransaction> transactions = TransactionalCaptureSupplier.batchOf(Objects.requireNonNull(batchStart), batchSize);
+                batchStart = null;
+                batchSize = 0;
                 batchDecider = pointer.next;
                 TransactionalCaptureSupplier.generateEventForTransaction(
                     pointer,
                     parent,
                     context,
-                    builder,
-                    (ImmutableList) transactions,
-                    transactionPostEventBuilder
+                    batched,
+                    (ImmutableList) transactions
                 );
-            } else {
-                accumilator.add(pointer);
             }
             pointer = pointer.next;
         }
-        final ImmutableList<GameTransaction> remaining = accumilator.build();
-        if (!remaining.isEmpty()) {
+        if (batchSize != 0) {
             TransactionalCaptureSupplier.generateEventForTransaction(
                 Objects.requireNonNull(batchDecider, "BatchDeciding Transaction was null"),
                 parent,
                 context,
-                builder,
-                (ImmutableList) remaining,
-                transactionPostEventBuilder
+                batched,
+                (ImmutableList) TransactionalCaptureSupplier.batchOf(Objects.requireNonNull(batchStart), batchSize)
             );
         }
-        return builder.build();
+    }
+
+    /**
+     * Copies a batch out of the linked transactions. The list is kept by the
+     * generated event and its {@link EventByTransaction} until every event of
+     * the supplier was posted, so each batch needs a list of its own.
+     */
+    private static ImmutableList<GameTransaction> batchOf(final GameTransaction first, final int size) {
+        if (size == 1) {
+            return ImmutableList.of(first);
+        }
+        final GameTransaction[] transactions = new GameTransaction[size];
+        @Nullable GameTransaction pointer = first;
+        for (int i = 0; i < size; i++) {
+            transactions[i] = Objects.requireNonNull(pointer);
+            pointer = pointer.next;
+        }
+        return ImmutableList.copyOf(transactions);
     }
 
     @SuppressWarnings("unchecked")
@@ -531,9 +615,8 @@ private static <E extends Event & Cancellable> void generateEventForTransaction(
         final @NonNull GameTransaction<E> pointer,
         final @Nullable GameTransaction<@NonNull ?> parent,
         final PhaseContext<@NonNull ?> context,
-        final ImmutableList.Builder<EventByTransaction<@NonNull ?>> builder,
-        final ImmutableList<GameTransaction<E>> transactions,
-        final ImmutableMultimap.Builder<TransactionType, ? extends Event> transactionPostEventBuilder
+        final List<EventByTransaction<@NonNull ?>> batched,
+        final ImmutableList<GameTransaction<E>> transactions
     ) {
         final Optional<BiConsumer<PhaseContext<@NonNull ?>, CauseStackManager.StackFrame>> frameMutator = pointer.getFrameMutator(parent);
         final PhaseTracker instance = PhaseTracker.getInstance();
@@ -547,15 +630,11 @@ private static <E extends Event & Cancellable> void generateEventForTransaction(
                 .orElseGet(instance::pushCauseFrame)
         ) {
             final Optional<E> generatedEvent = pointer.generateEvent(context, parent, transactions, instance.currentCause());
-            generatedEvent
-                // It's not guaranteed that a transaction has a valid world or some other artifact,
-                // and in those cases, we don't want to treat the transaction as being "cancellable"
-                .ifPresent(e -> {
-                    final EventByTransaction<E> element = new EventByTransaction<>(e, transactions, parent, pointer);
-                    builder.add(element);
-                    ((ImmutableMultimap.Builder) transactionPostEventBuilder).put(pointer.getTransactionType(), e);
-
-                });
+            // It's not guaranteed that a transaction has a valid world or some other artifact,
+            // and in those cases, we don't want to treat the transaction as being "cancellable"
+            if (generatedEvent.isPresent()) {
+                batched.add(new EventByTransaction<>(generatedEvent.get(), transactions, parent, pointer));
+            }
 
             for (final GameTransaction<E> transaction : transactions) {
                 if (transaction.sideEffects == null || transaction.sideEffects.isEmpty()) {
@@ -566,7 +645,7 @@ private static <E extends Event & Cancellable> void generateEventForTransaction(
                     if (sideEffect.head == null) {
                         continue;
                     }
-                    builder.addAll(TransactionalCaptureSupplier.batchTransactions(sideEffect.head, pointer, context, transactionPostEventBuilder));
+                    TransactionalCaptureSupplier.batchTransactions(sideEffect.head, pointer, context, batched);
                 }
             }
         }
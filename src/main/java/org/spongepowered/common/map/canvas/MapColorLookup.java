@@ -0,0 +1,198 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.canvas;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.map.color.MapColorType;
+import org.spongepowered.api.map.color.MapColorTypes;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.common.map.color.SpongeMapColor;
+import org.spongepowered.common.util.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Converts rgb values into map pixel values. Colors that are exactly in the
+ * palette keep their pixel value (so {@link SpongeMapByteCanvas#toImage()}
+ * round trips), anything else goes through a table of nearest palette colors
+ * quantized to {@link #BITS} bits per channel. The table is built once, the
+ * first time an image is converted.
+ */
+final class MapColorLookup {
+
+    private static final int BITS = 5;
+    private static final int SHIFT = 8 - MapColorLookup.BITS;
+    private static final int LEVELS = 1 << MapColorLookup.BITS;
+
+    private final Int2IntOpenHashMap exact = new Int2IntOpenHashMap();
+    private final int[] rgb = new int[256];
+    private final byte[] nearest = new byte[MapColorLookup.LEVELS * MapColorLookup.LEVELS * MapColorLookup.LEVELS];
+
+    static MapColorLookup get() {
+        return Holder.INSTANCE;
+    }
+
+    private MapColorLookup() {
+        this.exact.defaultReturnValue(-1);
+        final List<SpongeMapColor> candidates = new ArrayList<>();
+        final MapColorType none = MapColorTypes.NONE.get();
+        Sponge.game().registries().registry(RegistryTypes.MAP_COLOR_TYPE).stream().forEach(type -> {
+            Sponge.game().registries().registry(RegistryTypes.MAP_SHADE).stream().forEach(shade -> {
+                final SpongeMapColor color = new SpongeMapColor(type, shade);
+                final int rgb = color.color().rgb();
+                this.exact.put(rgb, Byte.toUnsignedInt(color.getMCColor()));
+                this.rgb[Byte.toUnsignedInt(color.getMCColor())] = rgb;
+                // NONE is transparent, only ever pick it for an exact match
+                if (type != none) {
+                    candidates.add(color);
+                }
+            });
+        });
+
+        final int size = candidates.size();
+        final int[] reds = new int[size];
+        final int[] greens = new int[size];
+        final int[] blues = new int[size];
+        final byte[] pixels = new byte[size];
+        for (int i = 0; i < size; i++) {
+            final SpongeMapColor color = candidates.get(i);
+            final int rgb = color.color().rgb();
+            reds[i] = (rgb >> 16) & 0xFF;
+            greens[i] = (rgb >> 8) & 0xFF;
+            blues[i] = rgb & 0xFF;
+            pixels[i] = color.getMCColor();
+        }
+        final int half = 1 << (MapColorLookup.SHIFT - 1);
+        int index = 0;
+        for (int r = 0; r < MapColorLookup.LEVELS; r++) {
+            final int red = (r << MapColorLookup.SHIFT) | half;
+            for (int g = 0; g < MapColorLookup.LEVELS; g++) {
+                final int green = (g << MapColorLookup.SHIFT) | half;
+                for (int b = 0; b < MapColorLookup.LEVELS; b++, index++) {
+                    final int blue = (b << MapColorLookup.SHIFT) | half;
+                    int best = 0;
+                    int bestDistance = Integer.MAX_VALUE;
+                    for (int i = 0; i < size; i++) {
+                        final int distance = MapColorLookup.distance(red, green, blue, reds[i], greens[i], blues[i]);
+                        if (distance < bestDistance) {
+                            bestDistance = distance;
+                            best = i;
+                        }
+                    }
+                    this.nearest[index] = pixels[best];
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts every pixel to its closest map color.
+     *
+     * @param pixels The rgb values, {@link Constants.Map#MAP_SIZE} long
+     * @param canvas The canvas to write to
+     */
+    void convert(final int[] pixels, final byte[] canvas) {
+        for (int i = 0; i < Constants.Map.MAP_SIZE; i++) {
+            final int rgb = pixels[i] & 0xFFFFFF;
+            final int exact = this.exact.get(rgb);
+            canvas[i] = exact == -1 ? this.nearest(rgb >> 16, (rgb >> 8) & 0xFF, rgb & 0xFF) : (byte) exact;
+        }
+    }
+
+    /**
+     * Converts every pixel to a map color, spreading the difference to the
+     * neighbouring pixels using Floyd-Steinberg error diffusion. Pixels that
+     * are exactly in the palette are kept as they are.
+     *
+     * @param pixels The rgb values, {@link Constants.Map#MAP_SIZE} long
+     * @param canvas The canvas to write to
+     */
+    void convertDithered(final int[] pixels, final byte[] canvas) {
+        // Errors are kept multiplied by 16, one slot of padding on each side of the row
+        final int stride = (Constants.Map.MAP_PIXELS + 2) * 3;
+        int[] current = new int[stride];
+        int[] next = new int[stride];
+        int pos = 0;
+        for (int y = 0; y < Constants.Map.MAP_PIXELS; y++) {
+            for (int x = 0; x < Constants.Map.MAP_PIXELS; x++, pos++) {
+                final int rgb = pixels[pos] & 0xFFFFFF;
+                final int exact = this.exact.get(rgb);
+                if (exact != -1) {
+                    canvas[pos] = (byte) exact;
+                    continue;
+                }
+                final int slot = (x + 1) * 3;
+                final int red = MapColorLookup.clamp((rgb >> 16) + current[slot] / 16);
+                final int green = MapColorLookup.clamp(((rgb >> 8) & 0xFF) + current[slot + 1] / 16);
+                final int blue = MapColorLookup.clamp((rgb & 0xFF) + current[slot + 2] / 16);
+                final byte pixel = this.nearest(red, green, blue);
+                canvas[pos] = pixel;
+
+                final int chosen = this.rgb[Byte.toUnsignedInt(pixel)];
+                MapColorLookup.diffuse(current, next, slot, red - ((chosen >> 16) & 0xFF));
+                MapColorLookup.diffuse(current, next, slot + 1, green - ((chosen >> 8) & 0xFF));
+                MapColorLookup.diffuse(current, next, slot + 2, blue - (chosen & 0xFF));
+            }
+            final int[] swap = current;
+            current = next;
+            next = swap;
+            Arrays.fill(next, 0);
+        }
+    }
+
+    private byte nearest(final int red, final int green, final int blue) {
+        return this.nearest[((red >> MapColorLookup.SHIFT) << (MapColorLookup.BITS * 2))
+                | ((green >> MapColorLookup.SHIFT) << MapColorLookup.BITS)
+                | (blue >> MapColorLookup.SHIFT)];
+    }
+
+    private static void diffuse(final int[] current, final int[] next, final int slot, final int error) {
+        current[slot + 3] += error * 7;
+        next[slot - 3] += error * 3;
+        next[slot] += error * 5;
+        next[slot + 3] += error;
+    }
+
+    private static int clamp(final int channel) {
+        return channel < 0 ? 0 : Math.min(channel, 255);
+    }
+
+    // Weighted euclidean distance, closer to how the eye perceives
+    // differences than plain rgb distance without going to another color space
+    private static int distance(final int r1, final int g1, final int b1, final int r2, final int g2, final int b2) {
+        final int redMean = (r1 + r2) >> 1;
+        final int red = r1 - r2;
+        final int green = g1 - g2;
+        final int blue = b1 - b2;
+        return (((512 + redMean) * red * red) >> 8) + 4 * green * green + (((767 - redMean) * blue * blue) >> 8);
+    }
+
+    private static final class Holder {
+        static final MapColorLookup INSTANCE = new MapColorLookup();
+    }
+}
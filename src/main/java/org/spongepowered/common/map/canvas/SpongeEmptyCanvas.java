@@ -30,12 +30,12 @@
 import org.spongepowered.api.map.color.MapColor;
 import org.spongepowered.api.map.color.MapColorTypes;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.util.MapUtil;
 
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
-import java.util.Arrays;
 import java.util.Collections;
 
 // This class basically means that we don't have to create tons of huge byte arrays
@@ -45,6 +45,7 @@ public final class SpongeEmptyCanvas implements SpongeMapCanvas {
     // Only allow construction from within this class
     private SpongeEmptyCanvas() {}
     public static final SpongeEmptyCanvas INSTANCE = new SpongeEmptyCanvas();
+    private static final byte[] BLANK = new byte[Constants.Map.MAP_SIZE];
 
     @Override
     public MapColor color(final int x, final int y) {
@@ -83,6 +84,6 @@ public DataContainer toContainer() {
 
     @Override
     public void applyToMapData(final MapItemSavedData mapData) {
-        Arrays.fill(mapData.colors, (byte) 0);
+        MapUtil.writeCanvas(mapData, SpongeEmptyCanvas.BLANK);
     }
 }
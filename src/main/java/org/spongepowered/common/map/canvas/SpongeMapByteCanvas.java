@@ -47,8 +47,7 @@ public SpongeMapByteCanvas(final byte[] canvas) {
     }
 
     public void applyToMapData(final MapItemSavedData mapData) {
-        mapData.colors = this.canvas.clone();
-        mapData.setDirty();
+        MapUtil.writeCanvas(mapData, this.canvas);
     }
 
     @Override
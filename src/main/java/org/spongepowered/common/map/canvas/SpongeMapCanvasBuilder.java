@@ -25,11 +25,10 @@
 package org.spongepowered.common.map.canvas;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.color.MapColor;
-import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.MapUtil;
 import org.spongepowered.common.map.color.SpongeMapColor;
 import org.spongepowered.common.util.Constants;
@@ -39,8 +38,6 @@
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 public final class SpongeMapCanvasBuilder implements MapCanvas.Builder {
@@ -109,21 +106,11 @@ public MapCanvas.Builder fromImage(final Image image) {
         }
         final BufferedImage bufferedImage = this.createBufferedImage(image);
         final int[] pixels = ((DataBufferInt) bufferedImage.getRaster().getDataBuffer()).getData();
-        // Get the color palette we are working with
-        final Map<Integer, SpongeMapColor> palette = new HashMap<>();
-        Sponge.game().registries().registry(RegistryTypes.MAP_COLOR_TYPE).stream().forEach(color -> {
-            Sponge.game().registries().registry(RegistryTypes.MAP_SHADE).stream().forEach(shade -> {
-                final SpongeMapColor spongeMapColor = new SpongeMapColor(color, shade);
-                palette.put(spongeMapColor.color().rgb(), spongeMapColor);
-            });
-        });
-        final byte[] canvas = this.getCanvas();
-        for (int i = 0; i < pixels.length; i++) {
-            final SpongeMapColor color = palette.get(pixels[i]);
-            if (color == null) {
-                throw new IllegalArgumentException("Can not find a matching color for rgb value: " + Integer.toHexString(pixels[i]) + ". The MapCanvas will have painted all pixels up to this point.");
-            }
-            canvas[i] = color.getMCColor();
+        final MapColorLookup lookup = MapColorLookup.get();
+        if (SpongeConfigs.getCommon().get().general.ditherMapImages) {
+            lookup.convertDithered(pixels, this.getCanvas());
+        } else {
+            lookup.convert(pixels, this.getCanvas());
         }
         return this;
     }
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.network.FriendlyByteBufBridge;
+import org.spongepowered.common.bridge.network.protocol.game.LocalizedPacketBridge;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The bytes of a {@link LocalizedPacketBridge localized packet}, encoded up
+ * front once per locale and shared by every connection it is sent to.
+ */
+public final class PreEncodedPacket {
+
+    // Copied on write, only ever filled before the packet is handed to any connection
+    private volatile Map<@Nullable Locale, byte[]> encoded = Collections.emptyMap();
+
+    /**
+     * Writes the bytes encoded for the locale of the given buffer, if the
+     * packet was encoded for it.
+     *
+     * @param buf The buffer the packet is written to
+     * @return Whether the bytes were written
+     */
+    public boolean write(final FriendlyByteBuf buf) {
+        final byte @Nullable [] encoded = this.encoded.get(((FriendlyByteBufBridge) buf).bridge$getLocale());
+        if (encoded == null) {
+            return false;
+        }
+        buf.writeBytes(encoded);
+        return true;
+    }
+
+    /**
+     * Encodes the packet for the given locale, unless it already was.
+     *
+     * @param packet The packet
+     * @param locale The locale
+     */
+    public void encode(final Packet<?> packet, final @Nullable Locale locale) {
+        if (this.encoded.containsKey(locale)) {
+            return;
+        }
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        ((FriendlyByteBufBridge) buf).bridge$setLocale(locale);
+        try {
+            packet.write(buf);
+            final byte[] encoded = new byte[buf.readableBytes()];
+            buf.readBytes(encoded);
+            final Map<@Nullable Locale, byte[]> copy = new HashMap<>(this.encoded);
+            copy.put(locale, encoded);
+            this.encoded = copy;
+        } catch (final IOException e) {
+            // Leave it to each connection to encode the packet as usual.
+            SpongeCommon.logger().debug("Could not pre-encode {}", packet.getClass().getSimpleName(), e);
+        } finally {
+            buf.release();
+        }
+    }
+
+}
@@ -26,18 +26,29 @@
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.util.PrettyPrinter;
+import org.spongepowered.plugin.PluginContainer;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -48,73 +59,60 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The executor of asynchronous tasks, either a dynamic thread pool or
+    // virtual threads depending on the configured execution mode.
+    private final ExecutorService executor;
+    // The maximum number of executing tasks per plugin, or 0 if unlimited
+    private final int maxConcurrentTasksPerPlugin;
+    private final Map<PluginContainer, PluginExecution> executions = new ConcurrentHashMap<>();
     private volatile boolean running = true;
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
-
     public AsyncScheduler() {
         super("A");
 
+        final SchedulerCategory config = SpongeConfigs.getCommon().get().scheduler;
+        this.executor = AsyncScheduler.createExecutor(config.asyncExecutionMode);
+        this.maxConcurrentTasksPerPlugin = Math.max(0, config.asyncMaxConcurrentTasksPerPlugin);
+
         final Thread thread = new Thread(AsyncScheduler.this::mainLoop);
         thread.setName("Sponge Async Scheduler Thread");
         thread.setDaemon(true);
         thread.start();
     }
 
+    private static ExecutorService createExecutor(final SchedulerCategory.ExecutionMode mode) {
+        if (mode == SchedulerCategory.ExecutionMode.VIRTUAL) {
+            try {
+                final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (final ReflectiveOperationException | UnsupportedOperationException e) {
+                SpongeCommon.logger().warn("Virtual threads are not supported by this Java runtime, "
+                        + "the async scheduler will use platform threads instead.");
+            }
+        }
+        return Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("Sponge-AsyncScheduler-%d")
+                .build());
+    }
+
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
-            this.recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
+    /**
+     * Gets the time to wait until the earliest queued task becomes due. Both
+     * clocks of the async scheduler are backed by {@link System#nanoTime()}.
+     *
+     * @return The timeout in nanoseconds, or {@link Long#MAX_VALUE}
+     */
+    private long nextTimeout() {
+        final long earliestDue = Math.min(this.earliestDue(true), this.earliestDue(false));
+        if (earliestDue == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
         }
+        return earliestDue - System.nanoTime();
     }
 
     @Override
@@ -130,33 +128,28 @@ protected void addTask(final SpongeScheduledTask task) {
 
     @Override
     protected void preTick() {
+        // The lock is only held while waiting, tasks are dispatched to the
+        // executor without holding it
         this.lock.lock();
         try {
             // If we have something that has indicated it needs to change,
             // don't await, just continue.
             if (!this.stateChanged.get()) {
-                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+                final long timeout = this.nextTimeout();
+                if (timeout > 0) {
+                    this.condition.awaitNanos(timeout);
+                }
             }
             // We're processing now. Set to false.
             this.stateChanged.set(false);
         } catch (final InterruptedException ignored) {
             // The taskMap has been modified; there is work to do.
             // Continue on without handling the Exception.
-        } catch (final IllegalMonitorStateException e) {
-            SpongeCommon.logger().error("The scheduler internal state machine suffered a catastrophic error", e);
+        } finally {
+            this.lock.unlock();
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
-    @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
-    }
-
     @Override
     protected void onTaskCompletion(final SpongeScheduledTask task) {
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
@@ -172,11 +165,37 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
 
     @Override
     protected void executeTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
-        this.executor.submit(runnable);
+        this.execution(task.owner()).execute(runnable);
+    }
+
+    private PluginExecution execution(final PluginContainer plugin) {
+        return this.executions.computeIfAbsent(plugin, k -> new PluginExecution());
     }
 
+    /**
+     * Submits the given callable on behalf of Sponge itself, it counts
+     * towards the concurrency limit of the common plugin.
+     *
+     * @param callable The callable
+     * @param <T> The result type
+     * @return The future of the result
+     */
     public <T> CompletableFuture<T> submit(final Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.executor);
+        return this.submit(Launch.instance().commonPlugin(), callable);
+    }
+
+    /**
+     * Submits the given callable on behalf of the given plugin, it counts
+     * towards the concurrency limit of that plugin like its scheduled tasks.
+     *
+     * @param plugin The plugin
+     * @param callable The callable
+     * @param <T> The result type
+     * @return The future of the result
+     */
+    public <T> CompletableFuture<T> submit(final PluginContainer plugin, final Callable<T> callable) {
+        final PluginExecution execution = this.execution(plugin);
+        return Functional.asyncFailableFuture(callable, execution::execute);
     }
 
     public void close() {
@@ -203,4 +222,57 @@ public void close() {
             SpongeCommon.logger().error("The async scheduler was interrupted while awaiting shutdown!");
         }
     }
+
+    /**
+     * Tracks the executing tasks of a single plugin and holds back further
+     * tasks once the plugin has reached its concurrency limit, so a single
+     * plugin can't starve the executor.
+     */
+    private final class PluginExecution {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+        void execute(final Runnable runnable) {
+            if (AsyncScheduler.this.maxConcurrentTasksPerPlugin == 0) {
+                this.inFlight.incrementAndGet();
+                AsyncScheduler.this.executor.execute(() -> this.run(runnable));
+                return;
+            }
+            this.pending.add(runnable);
+            this.drain();
+        }
+
+        private void run(final Runnable runnable) {
+            try {
+                runnable.run();
+            } finally {
+                this.inFlight.decrementAndGet();
+                if (AsyncScheduler.this.maxConcurrentTasksPerPlugin != 0) {
+                    this.drain();
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                final int current = this.inFlight.get();
+                if (current >= AsyncScheduler.this.maxConcurrentTasksPerPlugin || this.pending.isEmpty()) {
+                    return;
+                }
+                if (!this.inFlight.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                final @Nullable Runnable next = this.pending.poll();
+                if (next == null) {
+                    // Another thread took it first, give the slot back
+                    this.inFlight.decrementAndGet();
+                    continue;
+                }
+                AsyncScheduler.this.executor.execute(() -> this.run(next));
+            }
+        }
+
+    }
+
 }
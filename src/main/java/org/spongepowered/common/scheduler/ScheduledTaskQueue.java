@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * The pending executions of a scheduler for a single clock, ordered by the
+ * timestamp at which they become due. Only tasks that are due are ever
+ * looked at, idle tasks cost nothing per tick.
+ *
+ * <p>Cancelled tasks are dropped lazily when they become due, or in bulk
+ * once they make up the majority of the queue.</p>
+ */
+final class ScheduledTaskQueue {
+
+    private static final int MIN_PURGE_SIZE = 1024;
+
+    private final PriorityQueue<SpongeScheduledTask> queue =
+            new PriorityQueue<>(Comparator.comparingLong(SpongeScheduledTask::nextDue));
+    private int cancelled;
+
+    synchronized void add(final SpongeScheduledTask task) {
+        task.queue = this;
+        task.countedAsCancelled = false;
+        this.queue.add(task);
+    }
+
+    /**
+     * Removes and returns the earliest task if it is due at the given
+     * timestamp. Cancelled tasks that are due are dropped on the way.
+     *
+     * @param now The current timestamp of this queue's clock
+     * @return The due task, or null if no task is due
+     */
+    synchronized @Nullable SpongeScheduledTask pollDue(final long now) {
+        @Nullable SpongeScheduledTask head;
+        while ((head = this.queue.peek()) != null && head.nextDue() <= now) {
+            this.queue.poll();
+            head.queue = null;
+            if (!head.isCancelled()) {
+                return head;
+            }
+            if (head.countedAsCancelled) {
+                head.countedAsCancelled = false;
+                this.cancelled--;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the timestamp at which the earliest task becomes due.
+     *
+     * @return The earliest due timestamp, or {@link Long#MAX_VALUE} if empty
+     */
+    synchronized long earliestDue() {
+        final @Nullable SpongeScheduledTask head = this.queue.peek();
+        return head == null ? Long.MAX_VALUE : head.nextDue();
+    }
+
+    /**
+     * Called when a task that may be waiting in this queue was cancelled.
+     *
+     * @param task The cancelled task
+     */
+    synchronized void onCancelled(final SpongeScheduledTask task) {
+        // The task may have been polled in the meantime, in which case it won't come back
+        if (task.queue != this || task.countedAsCancelled) {
+            return;
+        }
+        task.countedAsCancelled = true;
+        if (++this.cancelled > ScheduledTaskQueue.MIN_PURGE_SIZE && this.cancelled > this.queue.size() / 2) {
+            this.queue.removeIf(queued -> {
+                if (!queued.isCancelled()) {
+                    return false;
+                }
+                queued.queue = null;
+                queued.countedAsCancelled = false;
+                return true;
+            });
+            this.cancelled = 0;
+        }
+    }
+
+}
@@ -25,6 +25,7 @@
 package org.spongepowered.common.scheduler;
 
 import com.google.common.base.MoreObjects;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.scheduler.Task;
 
@@ -40,8 +41,12 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private final UUID id;
     private final String name;
     private long timestamp;
+    private long nextDue;
     private ScheduledTaskState state;
     private boolean isCancelled = false;
+    // The queue this task is waiting in and whether it counts this task as cancelled, guarded by that queue
+    volatile @Nullable ScheduledTaskQueue queue;
+    boolean countedAsCancelled;
 
     SpongeScheduledTask(SpongeScheduler scheduler, SpongeTask task, String taskName) {
         this.scheduler = scheduler;
@@ -74,8 +79,12 @@ public boolean cancel() {
                 || this.state() == ScheduledTaskState.EXECUTING) {
             success = true;
         }
+        final boolean wasCancelled = this.isCancelled;
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        if (!wasCancelled) {
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
@@ -96,6 +105,20 @@ void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Returns the timestamp at which this task is due in the
+     * {@link ScheduledTaskQueue} it is currently queued in.
+     *
+     * @return The due timestamp
+     */
+    long nextDue() {
+        return this.nextDue;
+    }
+
+    void setNextDue(long nextDue) {
+        this.nextDue = nextDue;
+    }
+
     /**
      * Returns a timestamp after which the next execution will take place.
      * Should only be compared to
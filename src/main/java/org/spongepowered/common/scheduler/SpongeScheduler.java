@@ -26,6 +26,7 @@
 
 import co.aikar.timings.Timing;
 import com.google.common.collect.Sets;
+import com.google.common.math.LongMath;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.scheduler.Scheduler;
@@ -59,6 +60,10 @@ public abstract class SpongeScheduler implements Scheduler {
 
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, SpongeScheduledTask> taskMap = new ConcurrentHashMap<>();
+    // The pending executions, tick based and wall clock timestamps are
+    // not comparable so each clock gets its own queue
+    private final ScheduledTaskQueue tickBasedQueue = new ScheduledTaskQueue();
+    private final ScheduledTaskQueue wallClockQueue = new ScheduledTaskQueue();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(final String tag) {
@@ -89,6 +94,35 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.taskMap.put(task.uniqueId(), task);
+        this.enqueueTask(task);
+    }
+
+    /**
+     * Queues the next execution of the task, the delay is used if the task
+     * is still waiting for its first execution, the interval otherwise.
+     *
+     * @param task The task to queue
+     */
+    private void enqueueTask(final SpongeScheduledTask task) {
+        final boolean waiting = task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING;
+        final long threshold = waiting ? task.task.delay : task.task.interval;
+        task.setNextDue(LongMath.saturatedAdd(task.timestamp(), threshold));
+        this.queue(waiting ? task.task.tickBasedDelay : task.task.tickBasedInterval).add(task);
+    }
+
+    private ScheduledTaskQueue queue(final boolean tickBased) {
+        return tickBased ? this.tickBasedQueue : this.wallClockQueue;
+    }
+
+    /**
+     * Gets the timestamp at which the earliest queued task becomes due for
+     * the given clock.
+     *
+     * @param tickBased Whether to query the tick based clock
+     * @return The earliest due timestamp, or {@link Long#MAX_VALUE} if none
+     */
+    protected final long earliestDue(final boolean tickBased) {
+        return this.queue(tickBased).earliestDue();
     }
 
     /**
@@ -100,6 +134,22 @@ private void removeTask(final SpongeScheduledTask task) {
         this.taskMap.remove(task.uniqueId());
     }
 
+    /**
+     * Called when a task was cancelled, the task is removed from the task map
+     * straight away and dropped from its queue once due.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(final SpongeScheduledTask task) {
+        this.removeTask(task);
+        // Only the queue the task is actually waiting in knows about it, a
+        // repeating task may have moved from the delay's clock to the interval's
+        final @Nullable ScheduledTaskQueue queue = task.queue;
+        if (queue != null) {
+            queue.onCancelled(task);
+        }
+    }
+
     @Override
     public Optional<ScheduledTask> findTask(final UUID id) {
         Objects.requireNonNull(id, "id");
@@ -166,13 +216,14 @@ public SpongeScheduledTask submit(final Task task) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.processDueTasks(true);
+            this.processDueTasks(false);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -199,54 +250,36 @@ protected void postTick() {
     protected void finallyPostTick() {
     }
 
+    private void processDueTasks(final boolean tickBased) {
+        final ScheduledTaskQueue queue = this.queue(tickBased);
+        // This moment is 'now'
+        final long now = this.timestamp(tickBased);
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.pollDue(now)) != null) {
+            this.processTask(task);
+        }
+    }
+
     /**
-     * Processes the task.
+     * Processes a task that is due.
      *
      * @param task The task to process
      */
     private void processTask(final SpongeScheduledTask task) {
-        // If the task is now slated to be cancelled, we just remove it as if it
+        // If the task is now slated to be cancelled, we just drop it as if it
         // no longer exists.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -274,6 +307,11 @@ private void startTask(final SpongeScheduledTask task) {
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    // Repeating tasks are only queued again once the previous
+                    // execution completed, so an execution never overlaps itself
+                    if (task.task.interval != 0L) {
+                        this.enqueueTask(task);
+                    }
                 }
                 SpongeCommon.setActivePlugin(null);
                 this.onTaskCompletion(task);
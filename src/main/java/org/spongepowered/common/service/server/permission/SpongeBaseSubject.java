@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.service.server.permission;
 
+import com.google.common.collect.MapMaker;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.service.context.Context;
@@ -33,12 +34,52 @@
 import org.spongepowered.api.service.permission.SubjectReference;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class SpongeBaseSubject implements Subject {
 
+    /**
+     * The maximum number of permission values cached per subject, the
+     * cache starts over once it is full.
+     */
+    private static final int MAX_RESOLVED_PERMISSIONS = 1024;
+
+    /**
+     * The permission values resolved for this subject, valid as long as the
+     * {@link #permissionVersion} and the {@link #permissionState()} are the same.
+     */
+    private static final class ResolvedPermissions {
+
+        final long version;
+        final long state;
+        final ConcurrentMap<String, Tristate> values = new ConcurrentHashMap<>();
+
+        ResolvedPermissions(final long version, final long state) {
+            this.version = version;
+            this.state = state;
+        }
+    }
+
+    /**
+     * Bumped whenever the data of this subject, or of any subject it
+     * resolved permissions through, is modified.
+     */
+    private final AtomicLong permissionVersion = new AtomicLong();
+    /**
+     * The subjects which resolved permissions through this subject.
+     */
+    private final Set<SpongeBaseSubject> dependents = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+    private volatile @Nullable ResolvedPermissions resolvedPermissions;
+
     public abstract PermissionService service();
 
     @Override
@@ -72,20 +113,87 @@ public boolean hasPermission(final String permission, final Set<Context> context
 
     @Override
     public Tristate permissionValue(final String permission, final @Nullable Cause cause) {
+        final long version = this.permissionVersion.get();
+        final long state = this.permissionState();
+        ResolvedPermissions resolved = this.resolvedPermissions;
+        if (resolved == null || resolved.version != version || resolved.state != state) {
+            resolved = new ResolvedPermissions(version, state);
+            this.resolvedPermissions = resolved;
+        }
+        final Tristate cached = resolved.values.get(permission);
+        if (cached != null) {
+            return cached;
+        }
+        final Tristate value = this.resolvePermissionValue(permission);
+        // Don't cache a value that may have been resolved from data that changed meanwhile
+        if (this.permissionVersion.get() == version) {
+            if (resolved.values.size() >= SpongeBaseSubject.MAX_RESOLVED_PERMISSIONS) {
+                resolved.values.clear();
+            }
+            resolved.values.put(permission, value);
+        }
+        return value;
+    }
+
+    /**
+     * Discards the permission values resolved for this subject and
+     * for all subjects which resolved permissions through it.
+     */
+    final void invalidatePermissions() {
+        final Set<SpongeBaseSubject> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<SpongeBaseSubject> queue = new ArrayDeque<>();
+        queue.add(this);
+        while (!queue.isEmpty()) {
+            final SpongeBaseSubject subject = queue.poll();
+            if (visited.add(subject)) {
+                subject.permissionVersion.incrementAndGet();
+                queue.addAll(subject.dependents);
+            }
+        }
+    }
+
+    private void dependOn(final Subject subject) {
+        if (subject != this && subject instanceof SpongeBaseSubject) {
+            ((SpongeBaseSubject) subject).dependents.add(this);
+        }
+    }
+
+    /**
+     * Resolves the value of the given permission for this subject,
+     * the result is cached by {@link #permissionValue(String, Cause)}.
+     *
+     * @param permission The permission
+     * @return The permission value
+     */
+    protected Tristate resolvePermissionValue(final String permission) {
         return this.dataPermissionValue(this.transientSubjectData(), permission);
     }
 
+    /**
+     * Gets the state, other than subject data, which the resolved
+     * permissions of this subject depend on. Cached permission values
+     * are discarded when it changes.
+     *
+     * @return The state
+     */
+    protected long permissionState() {
+        return 0;
+    }
+
     @Override
     public final Tristate permissionValue(final String permission, final Set<Context> contexts) {
         return this.permissionValue(permission, (Cause) null);
     }
 
     protected Tristate dataPermissionValue(final MemorySubjectData subject, final String permission) {
+        this.dependOn(subject.subject());
         Tristate res = subject.nodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
 
         if (res == Tristate.UNDEFINED) {
             for (final SubjectReference parent : subject.parents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().permissionValue(permission, (Cause) null);
+                final Subject parentSubject = parent.resolve().join();
+                this.dependOn(parentSubject);
+                res = parentSubject.permissionValue(permission, (Cause) null);
                 if (res != Tristate.UNDEFINED) {
                     return res;
                 }
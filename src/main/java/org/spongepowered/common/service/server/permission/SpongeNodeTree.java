@@ -25,6 +25,7 @@
 package org.spongepowered.common.service.server.permission;
 
 import com.google.common.collect.ImmutableMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.service.permission.NodeTree;
 import org.spongepowered.api.util.Tristate;
 
@@ -67,20 +68,31 @@ <T> void populate(final Map<String, T> values, final Function<T, Tristate> conve
 
     @Override
     public Tristate get(final String node) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        // Walk the segments in place, toLowerCase returns the same
+        // instance for the usual already lower case permissions
+        final String lowerNode = node.toLowerCase();
+        final int length = lowerNode.length();
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        int start = 0;
+        while (true) {
+            int end = lowerNode.indexOf('.', start);
+            if (end < 0) {
+                end = length;
+            }
+            currentNode = currentNode.child(lowerNode, start, end);
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            if (end == length) {
+                break;
+            }
+            start = end + 1;
         }
         return lastUndefinedVal;
-
     }
 
     @Override
@@ -155,10 +167,81 @@ public static class Node {
 
         final Map<String, SpongeNodeTree.Node> children;
         Tristate value = Tristate.UNDEFINED;
+        // Built on the first lookup, the children don't change once the tree is built
+        private volatile @Nullable ChildIndex index;
 
         Node(Map<String, SpongeNodeTree.Node> children) {
             this.children = children;
         }
+
+        /**
+         * Gets the child for the given region of the node string,
+         * without creating a substring for it.
+         *
+         * @param node The lower case node string
+         * @param start The start of the segment, inclusive
+         * @param end The end of the segment, exclusive
+         * @return The child node, or null if not present
+         */
+        @Nullable Node child(final String node, final int start, final int end) {
+            if (this.children.isEmpty()) {
+                return null;
+            }
+            ChildIndex index = this.index;
+            if (index == null) {
+                index = new ChildIndex(this.children);
+                this.index = index;
+            }
+            return index.get(node, start, end);
+        }
+    }
+
+    /**
+     * An open addressing table over the children of a node which can be
+     * queried with a region of a string. Uses the same hash as
+     * {@link String#hashCode()}, so the region hash can be computed in place.
+     */
+    private static final class ChildIndex {
+
+        private final String[] keys;
+        private final Node[] nodes;
+        private final int mask;
+
+        ChildIndex(final Map<String, Node> children) {
+            int capacity = Integer.highestOneBit(Math.max(children.size() * 2 - 1, 1)) << 1;
+            this.keys = new String[capacity];
+            this.nodes = new Node[capacity];
+            this.mask = capacity - 1;
+            for (final Map.Entry<String, Node> entry : children.entrySet()) {
+                int slot = ChildIndex.mix(entry.getKey().hashCode()) & this.mask;
+                while (this.keys[slot] != null) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.keys[slot] = entry.getKey();
+                this.nodes[slot] = entry.getValue();
+            }
+        }
+
+        private static int mix(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        @Nullable Node get(final String node, final int start, final int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + node.charAt(i);
+            }
+            final int length = end - start;
+            int slot = ChildIndex.mix(hash) & this.mask;
+            String key;
+            while ((key = this.keys[slot]) != null) {
+                if (key.length() == length && key.regionMatches(0, node, start, length)) {
+                    return this.nodes[slot];
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            return null;
+        }
     }
 
     public static final class FactoryImpl implements Factory {
@@ -50,6 +50,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 /**
@@ -60,6 +61,7 @@
 @Singleton
 public final class SpongePermissionService implements PermissionService {
     private static final String SUBJECTS_DEFAULT = "default";
+    private static final AtomicLong OPS_VERSION = new AtomicLong();
 
     private final Game game;
     private final Map<String, PermissionDescription> descriptionMap = new LinkedHashMap<>();
@@ -99,6 +101,20 @@ static ServerOpList getOps() {
         return SpongeCommon.server().getPlayerList().getOps();
     }
 
+    /**
+     * Gets the number of times the server's op list or op rules changed,
+     * op levels looked up before stay valid as long as this is unchanged.
+     *
+     * @return The ops version
+     */
+    static long getOpsVersion() {
+        return SpongePermissionService.OPS_VERSION.get();
+    }
+
+    public static void onOpsChanged() {
+        SpongePermissionService.OPS_VERSION.incrementAndGet();
+    }
+
     static int getServerOpLevel() {
         return SpongeCommon.server().getOperatorUserPermissionLevel();
     }
@@ -27,6 +27,7 @@
 import com.google.common.base.Preconditions;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.server.players.ServerOpListEntry;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.service.permission.PermissionService;
@@ -44,6 +45,8 @@ public class UserSubject extends SpongeSubject {
     private final GameProfile player;
     private final MemorySubjectData data;
     private final UserCollection collection;
+    // The level and the ops version it was read at are published together
+    private volatile @Nullable CachedOpLevel opLevel;
 
     public UserSubject(final GameProfile player, final UserCollection users) {
         this.player = Preconditions.checkNotNull(player);
@@ -97,6 +100,16 @@ public Optional<?> associatedObject() {
     int getOpLevel() {
         Preconditions.checkState(Sponge.isServerAvailable(), "Server is not available!");
 
+        final long version = SpongePermissionService.getOpsVersion();
+        @Nullable CachedOpLevel cached = this.opLevel;
+        if (cached == null || cached.version != version) {
+            cached = new CachedOpLevel(version, this.queryOpLevel());
+            this.opLevel = cached;
+        }
+        return cached.level;
+    }
+
+    private int queryOpLevel() {
         // Query op level from server ops list based on player's game profile
         final ServerOpListEntry entry = SpongePermissionService.getOps().get(this.player);
         if (entry == null) {
@@ -123,8 +136,14 @@ public PermissionService service() {
     }
 
     @Override
-    public Tristate permissionValue(final String permission, final Cause cause) {
-        Tristate ret = super.permissionValue(permission, cause);
+    protected long permissionState() {
+        // The op level decides the parent group and the op fallback
+        return Sponge.isServerAvailable() ? SpongePermissionService.getOpsVersion() : -1;
+    }
+
+    @Override
+    protected Tristate resolvePermissionValue(final String permission) {
+        Tristate ret = super.resolvePermissionValue(permission);
         if (ret == Tristate.UNDEFINED) {
             ret = this.dataPermissionValue(this.collection.defaults().subjectData(), permission);
         }
@@ -148,4 +167,15 @@ public Optional<String> option(final String option, final Cause cause) {
         }
         return ret;
     }
+
+    private static final class CachedOpLevel {
+
+        final long version;
+        final int level;
+
+        CachedOpLevel(final long version, final int level) {
+            this.version = version;
+            this.level = level;
+        }
+    }
 }
@@ -27,6 +27,7 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.storage.PlayerDataStorage;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -41,11 +42,13 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.players.PlayerListAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PlayerDataStorageAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.entity.player.SpongeUserData;
 import org.spongepowered.common.entity.player.SpongeUserView;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -53,8 +56,11 @@
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -76,24 +82,33 @@ public final class SpongeUserManager implements UserManager {
 
     // This is the important set - this tells us if a User file actually exists,
     // it should mirror the filesystem.
-    private final Set<UUID> knownUUIDs = new HashSet<>();
+    private final Set<UUID> knownUUIDs = ConcurrentHashMap.newKeySet();
     private final Cache<UUID, SpongeUserData> userCache = Caffeine.newBuilder()
             .expireAfterAccess(1, TimeUnit.HOURS)
             .build();
     private final Set<SpongeUserData> dirtyUsers = ConcurrentHashMap.newKeySet();
+    // Dirty users waiting for their turn to be saved, only touched on the main thread
+    private final Set<SpongeUserData> queuedSaves = new LinkedHashSet<>();
+    // The last write started for each user, later writes are chained onto it so that the newest snapshot is written last
+    private final Map<UUID, CompletableFuture<Void>> pendingWrites = new ConcurrentHashMap<>();
     private final Map<String, SpongeUserMutableWatchEvent> watcherUpdateMap = new HashMap<>();
 
     private final MinecraftServer server;
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
-            .setDaemon(true)
-            .setNameFormat("Sponge-User-Data-Loader")
-            .build());
+    private final ExecutorService executorService;
+    private final int maxSavesInFlight;
 
     private @Nullable WatchService filesystemWatchService = null;
     private @Nullable WatchKey watchKey = null;
 
     public SpongeUserManager(final MinecraftServer server) {
         this.server = server;
+        final int threads = Math.max(1, SpongeConfigs.getCommon().get().world.offlineUserIoThreads);
+        this.executorService = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Sponge-User-Data-IO-%d")
+                .build());
+        // Stop handing out saves when the I/O threads fall this far behind
+        this.maxSavesInFlight = threads * 8;
     }
 
     public void init() {
@@ -211,15 +226,7 @@ public boolean removeFromCache(final UUID uuid) {
     public CompletableFuture<Boolean> forceSave(final UUID uuid) {
         final @Nullable SpongeUserData data = this.userCache.getIfPresent(uuid);
         if (data != null && this.dirtyUsers.contains(data)) {
-            return CompletableFuture.supplyAsync(() -> {
-                try {
-                    data.save();
-                } catch (final IOException e) {
-                    throw new CompletionException(e);
-                }
-                return true;
-            });
-
+            return this.saveAsync(data).thenApply(v -> true);
         }
         return CompletableFuture.completedFuture(false);
     }
@@ -257,17 +264,39 @@ public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) th
         if (currentUser != null) {
             // If currentUser have this then we know that the user has changed.
             if (this.dirtyUsers.contains(currentUser)) {
-                currentUser.save();
+                this.saveAsync(currentUser);
             }
             // The views will now point at the player.
             this.userCache.invalidate(currentUser.uniqueId());
         }
+        // Vanilla is about to read the player data file, so everything still being written has to land first.
+        final @Nullable CompletableFuture<Void> pending = this.pendingWrites.get(mcProfile.getId());
+        if (pending != null) {
+            try {
+                pending.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw e;
+            }
+        }
     }
 
     private void createUser(final com.mojang.authlib.GameProfile profile) throws IOException {
         this.pollFilesystemWatcher();
-        final @Nullable SpongeUserData user = SpongeUserData.create(profile);
-        this.userCache.put(profile.getId(), user);
+        try {
+            // Loads racing on the I/O threads for the same user only read the file once
+            this.userCache.get(profile.getId(), uuid -> {
+                try {
+                    return SpongeUserData.create(profile);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
         this.knownUUIDs.add(profile.getId());
     }
 
@@ -354,15 +383,16 @@ void refreshFilesystemProfiles() {
     }
 
     private void pollFilesystemWatcher() {
-        if (this.watchKey == null || !this.watchKey.isValid()) {
-            // Reboot this if it's somehow failed.
-            this.refreshFilesystemProfiles();
-            this.setupWatchers();
-            return;
-        }
-        // We've already got the UUIDs, so we need to just see if the file system
-        // watcher has found any more (or removed any).
+        // Users are loaded on several threads, so only one of them gets to look at the watcher at a time.
         synchronized (this.watcherUpdateMap) {
+            if (this.watchKey == null || !this.watchKey.isValid()) {
+                // Reboot this if it's somehow failed.
+                this.refreshFilesystemProfiles();
+                this.setupWatchers();
+                return;
+            }
+            // We've already got the UUIDs, so we need to just see if the file system
+            // watcher has found any more (or removed any).
             this.watcherUpdateMap.clear();
             for (final WatchEvent<?> event : this.watchKey.pollEvents()) {
                 @SuppressWarnings("unchecked") final WatchEvent<Path> ev = (WatchEvent<Path>) event;
@@ -425,14 +455,94 @@ private Path getSaveHandlerDirectory() {
     public void saveDirtyUsers() {
         // If they are online, Minecraft will do the save automatically.
         this.dirtyUsers.removeIf(SpongeUserData::isOnline);
-        for (final SpongeUserData user : new HashSet<>(this.dirtyUsers)) {
-            try {
-                user.save();
-            } catch (final IOException ignored) {
-                // There isn't much we can do here. The error has been logged, but
-                // the user is still available at this time so let's continue...
+        if (this.server.isRunning() && SpongeConfigs.getCommon().get().world.offlineUserSavesPerTick > 0) {
+            // Spread the saves out over the next few ticks, see tickSaves.
+            this.queuedSaves.addAll(this.dirtyUsers);
+            return;
+        }
+
+        // We're shutting down, so everyone has to be written before we return,
+        // including the writes tickSaves started that may still be running.
+        this.queuedSaves.clear();
+        for (final SpongeUserData user : new ArrayList<>(this.dirtyUsers)) {
+            this.saveAsync(user);
+        }
+        this.awaitPendingWrites();
+    }
+
+    /**
+     * Waits for all outstanding user writes and stops the I/O threads. Only
+     * called once the server has stopped.
+     */
+    public void shutdown() {
+        this.saveDirtyUsers();
+        this.executorService.shutdown();
+        try {
+            if (!this.executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+                SpongeCommon.logger().warn("Timed out waiting for offline user data to be written");
             }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitPendingWrites() {
+        final List<CompletableFuture<Void>> writes = new ArrayList<>(this.pendingWrites.values());
+        // Failures have already been logged and the users marked dirty again
+        CompletableFuture.allOf(writes.stream()
+                .map(write -> write.exceptionally(e -> null))
+                .toArray(CompletableFuture<?>[]::new))
+                .join();
+    }
+
+    /**
+     * Starts saving a limited number of the users queued by the last
+     * auto-save. Nothing new is started while the I/O threads are still busy
+     * with earlier saves.
+     */
+    public void tickSaves() {
+        if (this.queuedSaves.isEmpty()) {
+            return;
         }
+        int budget = SpongeConfigs.getCommon().get().world.offlineUserSavesPerTick;
+        if (budget <= 0) {
+            budget = Integer.MAX_VALUE;
+        }
+        final Iterator<SpongeUserData> iterator = this.queuedSaves.iterator();
+        while (budget > 0 && iterator.hasNext() && this.pendingWrites.size() < this.maxSavesInFlight) {
+            final SpongeUserData user = iterator.next();
+            iterator.remove();
+            // Saved in the meantime (or logged in)
+            if (!this.dirtyUsers.contains(user) || user.isOnline()) {
+                continue;
+            }
+            this.saveAsync(user);
+            budget--;
+        }
+    }
+
+    /**
+     * Snapshots the user and queues the write behind any write of the same
+     * user that is still running, so an older snapshot can never overwrite
+     * a newer one.
+     */
+    private CompletableFuture<Void> saveAsync(final SpongeUserData user) {
+        final UUID uuid = user.uniqueId();
+        // The snapshot is taken while holding the map entry, so the order of the writes matches the order of the snapshots
+        final CompletableFuture<Void> write = this.pendingWrites.compute(uuid, (key, previous) -> {
+            final CompoundTag snapshot = user.snapshot();
+            final CompletableFuture<?> after = previous == null ? CompletableFuture.completedFuture(null) : previous.exceptionally(e -> null);
+            return after.thenRunAsync(() -> {
+                try {
+                    user.write(snapshot);
+                } catch (final IOException e) {
+                    // The error has been logged and the user is dirty again, the next save will retry
+                    throw new CompletionException(e);
+                }
+            }, this.executorService);
+        });
+        write.whenComplete((v, e) -> this.pendingWrites.remove(uuid, write));
+        return write;
     }
 
     public void unmarkDirty(final SpongeUserData user) {
@@ -162,7 +162,9 @@ public static final class V3 {
 
         public static final String SPONGE_ENTITY_CREATOR = "Creator";
         public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
+        // Pre-section layout of tracked block positions, only read to migrate old chunks
         public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+        public static final String SPONGE_TRACKED_BLOCK_SECTIONS = "TrackedBlockSections";
 
         @Deprecated
         public static final String LEGACY_SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
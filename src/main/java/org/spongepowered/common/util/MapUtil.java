@@ -27,6 +27,7 @@
 import com.google.common.primitives.Bytes;
 import net.minecraft.core.MappedRegistry;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
@@ -55,6 +56,52 @@ public static boolean isInCanvasBounds(final int i) {
         return i >= 0 && i < Constants.Map.MAP_PIXELS;
     }
 
+    /**
+     * Writes the given canvas into the map's colors, only touching and
+     * marking dirty the smallest rectangle that actually changed, so that
+     * players holding the map are sent just that region.
+     *
+     * @param mapData The map to write to
+     * @param canvas The new pixel values, {@link Constants.Map#MAP_SIZE} long
+     */
+    public static void writeCanvas(final MapItemSavedData mapData, final byte[] canvas) {
+        final byte[] colors = mapData.colors;
+        int minX = Constants.Map.MAP_PIXELS;
+        int minY = Constants.Map.MAP_PIXELS;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0, row = 0; y < Constants.Map.MAP_PIXELS; y++, row += Constants.Map.MAP_PIXELS) {
+            int first = 0;
+            while (first < Constants.Map.MAP_PIXELS && colors[row + first] == canvas[row + first]) {
+                first++;
+            }
+            if (first == Constants.Map.MAP_PIXELS) {
+                continue;
+            }
+            int last = Constants.Map.MAP_MAX_INDEX;
+            while (colors[row + last] == canvas[row + last]) {
+                last--;
+            }
+            minX = Math.min(minX, first);
+            maxX = Math.max(maxX, last);
+            if (maxY == -1) {
+                minY = y;
+            }
+            maxY = y;
+        }
+        if (maxY == -1) {
+            return;
+        }
+        final int width = maxX - minX + 1;
+        for (int y = minY; y <= maxY; y++) {
+            final int offset = y * Constants.Map.MAP_PIXELS + minX;
+            System.arraycopy(canvas, offset, colors, offset, width);
+        }
+        // Each holding player grows its pending update to cover both corners
+        mapData.setDirty(minX, minY);
+        mapData.setDirty(maxX, maxY);
+    }
+
     public static boolean isInMapDecorationBounds(final int i) {
         return i >= Byte.MIN_VALUE && i <= Byte.MAX_VALUE;
     }
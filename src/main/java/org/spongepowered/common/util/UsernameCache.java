@@ -26,6 +26,7 @@
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
@@ -35,29 +36,74 @@
 import org.spongepowered.common.SpongeCommon;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Remembers the last known username of every player that has joined.
+ *
+ * <p>The full cache is stored as a json snapshot. Changes made after the
+ * snapshot was written are appended to a log next to it, which is folded
+ * back into the snapshot in the background once it grows larger than the
+ * cache itself.</p>
+ */
 public final class UsernameCache {
 
     private static final Charset CHARSET = Charsets.UTF_8;
+    private static final int MIN_COMPACTION_ENTRIES = 1024;
 
     private final Map<UUID, String> usernameByUniqueId;
+    // Case folded, points at the most recent holder of each name
+    private final Map<String, UUID> uniqueIdByUsername;
+    // When each username was last set, snapshots are written in this order
+    private final Map<UUID, Long> setAt;
     private final Gson gson;
     private final Path cacheFile;
-    private boolean dirty = false;
+    private final Path logFile;
+    private final ExecutorService writeExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-Username-Cache")
+            .build());
+
+    // Guarded by usernameByUniqueId
+    private long clock;
+    private volatile boolean closed;
+
+    // Only touched from the write executor, or by whoever holds
+    // usernameByUniqueId once the cache was closed
+    private @Nullable BufferedWriter log;
+    private int logEntries;
 
     public UsernameCache(final Server server) {
+        this(server.game().gameDirectory());
+    }
+
+    UsernameCache(final Path directory) {
         this.usernameByUniqueId = new ConcurrentHashMap<>();
+        this.uniqueIdByUsername = new ConcurrentHashMap<>();
+        this.setAt = new ConcurrentHashMap<>();
         this.gson = new GsonBuilder().setPrettyPrinting().create();
-        this.cacheFile = server.game().gameDirectory().resolve("usernamecache.json");
+        this.cacheFile = directory.resolve("usernamecache.json");
+        this.logFile = directory.resolve("usernamecache.log");
     }
 
     public void setUsername(final UUID uniqueId, final String username) {
@@ -68,16 +114,28 @@ public void setUsername(final UUID uniqueId, final String username) {
             return;
         }
 
-        this.usernameByUniqueId.put(uniqueId, username);
-        this.dirty = true;
+        synchronized (this.usernameByUniqueId) {
+            final @Nullable String previous = this.usernameByUniqueId.put(uniqueId, username);
+            if (username.equals(previous)) {
+                return;
+            }
+            this.setAt.put(uniqueId, ++this.clock);
+            this.index(uniqueId, previous, username);
+            this.append(uniqueId + " " + username);
+        }
     }
 
     public boolean removeUsername(final UUID uniqueId) {
         Preconditions.checkNotNull(uniqueId);
 
-        if (this.usernameByUniqueId.remove(uniqueId) != null) {
-            this.dirty = true;
-            return true;
+        synchronized (this.usernameByUniqueId) {
+            final @Nullable String previous = this.usernameByUniqueId.remove(uniqueId);
+            if (previous != null) {
+                this.setAt.remove(uniqueId);
+                this.index(uniqueId, previous, null);
+                this.append(uniqueId.toString());
+                return true;
+            }
         }
 
         return false;
@@ -92,13 +150,7 @@ public boolean removeUsername(final UUID uniqueId) {
     public @Nullable UUID getLastKnownUUID(final String username) {
         Preconditions.checkNotNull(username);
 
-        for (Map.Entry<UUID, String> mapEntry : this.usernameByUniqueId.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
-            }
-        }
-
-        return null;
+        return this.uniqueIdByUsername.get(UsernameCache.fold(username));
     }
 
     public boolean containsUUID(final UUID uniqueId) {
@@ -112,44 +164,237 @@ public Map<UUID, String> getAll() {
     }
 
     public void load() {
-        this.usernameByUniqueId.clear();
+        synchronized (this.usernameByUniqueId) {
+            this.usernameByUniqueId.clear();
+            this.uniqueIdByUsername.clear();
+            this.setAt.clear();
+            this.clock = 0;
 
-        if (Files.notExists(this.cacheFile)) {
-            return;
-        }
+            if (Files.exists(this.cacheFile)) {
+                try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
+                    final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
+                    final @Nullable Map<UUID, String> snapshot = this.gson.fromJson(reader, type);
+                    if (snapshot != null) {
+                        // Snapshots are written from the oldest to the most recent entry
+                        snapshot.forEach(this::put);
+                    }
+                } catch (final JsonSyntaxException e) {
+                    SpongeCommon.logger().error("Could not parse username cache file as valid json, deleting file", e);
+                    this.deleteFile(this.cacheFile);
+                } catch (final IOException e) {
+                    SpongeCommon.logger().error("Failed to read username cache file from disk, deleting file", e);
+                    this.deleteFile(this.cacheFile);
+                }
+            }
 
-        try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
-            final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
-            this.usernameByUniqueId.putAll(this.gson.fromJson(reader, type));
-        } catch (final JsonSyntaxException e) {
-            SpongeCommon.logger().error("Could not parse username cache file as valid json, deleting file", e);
-            this.deleteCacheFile();
-        } catch (final IOException e) {
-            SpongeCommon.logger().error("Failed to read username cache file from disk, deleting file", e);
-            this.deleteCacheFile();
+            final boolean replayed = this.replayLog();
+            // Names held by more than one player point at whoever took them last
+            this.usernameByUniqueId.forEach((uniqueId, username) -> this.uniqueIdByUsername.merge(UsernameCache.fold(username), uniqueId,
+                    (holder, candidate) -> this.setAt.get(candidate) > this.setAt.get(holder) ? candidate : holder));
+            if (replayed) {
+                // Fold the log into the snapshot so the next start does not have to replay it again
+                this.write(this::compactQuietly);
+            }
         }
     }
 
-    private void deleteCacheFile() {
+    /**
+     * Writes the whole cache to the snapshot file, waiting for any pending
+     * log entries to be written first.
+     */
+    public void save() {
+        final Future<?> saved;
+        synchronized (this.usernameByUniqueId) {
+            if (this.closed) {
+                this.compactQuietly();
+                return;
+            }
+            saved = this.writeExecutor.submit(this::compactQuietly);
+        }
         try {
-            Files.deleteIfExists(this.cacheFile);
-        } catch (IOException e) {
-            SpongeCommon.logger().error("Failed to delete username cache file from disk!", e);
+            saved.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            SpongeCommon.logger().error("Failed to save username cache to file!", e.getCause());
         }
     }
 
-    public void save() {
-        if (!this.dirty) {
-            return;
+    public void close() {
+        // The lock is held until the executor is done, writes made meanwhile wait for it
+        // rather than touching the log at the same time as the final compaction. None of
+        // the queued writes take the lock themselves.
+        synchronized (this.usernameByUniqueId) {
+            if (this.closed) {
+                return;
+            }
+            this.writeExecutor.execute(() -> {
+                if (this.logEntries > 0) {
+                    this.compactQuietly();
+                }
+                this.closeLog();
+            });
+            this.writeExecutor.shutdown();
+            try {
+                if (!this.writeExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    SpongeCommon.logger().warn("Username cache failed to finish writing in 5 seconds!");
+                    this.writeExecutor.shutdownNow();
+                }
+            } catch (final InterruptedException e) {
+                SpongeCommon.logger().error("The username cache was interrupted while awaiting shutdown!");
+                Thread.currentThread().interrupt();
+            }
+            // Anything written from now on is written right away instead
+            this.closed = true;
         }
+    }
+
+    private static String fold(final String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private void put(final UUID uniqueId, final String username) {
+        this.usernameByUniqueId.put(uniqueId, username);
+        this.setAt.put(uniqueId, ++this.clock);
+    }
 
+    private void index(final UUID uniqueId, final @Nullable String previous, final @Nullable String username) {
+        if (previous != null) {
+            // Leave the name alone if someone else has taken it since
+            this.uniqueIdByUsername.remove(UsernameCache.fold(previous), uniqueId);
+        }
+        if (username != null) {
+            this.uniqueIdByUsername.put(UsernameCache.fold(username), uniqueId);
+        }
+    }
+
+    /**
+     * Applies every entry in the log to the cache.
+     *
+     * @return Whether the log had any entries
+     */
+    private boolean replayLog() {
+        if (Files.notExists(this.logFile)) {
+            return false;
+        }
+
+        boolean replayed = false;
+        try (final BufferedReader reader = Files.newBufferedReader(this.logFile, UsernameCache.CHARSET)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                final int split = line.indexOf(' ');
+                try {
+                    if (split == -1) {
+                        final UUID uniqueId = UUID.fromString(line);
+                        this.usernameByUniqueId.remove(uniqueId);
+                        this.setAt.remove(uniqueId);
+                    } else {
+                        this.put(UUID.fromString(line.substring(0, split)), line.substring(split + 1));
+                    }
+                    replayed = true;
+                } catch (final IllegalArgumentException e) {
+                    // Most likely a torn write from a crash, nothing after it can be trusted
+                    SpongeCommon.logger().warn("Ignoring malformed username cache log entry '{}' and everything after it", line);
+                    break;
+                }
+            }
+        } catch (final IOException e) {
+            SpongeCommon.logger().error("Failed to read username cache log from disk, ignoring it", e);
+        }
+        return replayed;
+    }
+
+    /**
+     * Runs the given write on the write executor, or right away on the
+     * calling thread once the cache was closed.
+     */
+    private void write(final Runnable write) {
+        synchronized (this.usernameByUniqueId) {
+            if (!this.closed) {
+                this.writeExecutor.execute(write);
+                return;
+            }
+            write.run();
+            this.closeLog();
+        }
+    }
+
+    private void append(final String entry) {
+        this.write(() -> {
+            try {
+                if (this.log == null) {
+                    this.log = Files.newBufferedWriter(this.logFile, UsernameCache.CHARSET,
+                            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                }
+                this.log.write(entry);
+                this.log.write('\n');
+                this.log.flush();
+            } catch (final IOException e) {
+                SpongeCommon.logger().error("Failed to append to username cache log!", e);
+                return;
+            }
+            if (++this.logEntries > Math.max(UsernameCache.MIN_COMPACTION_ENTRIES, this.usernameByUniqueId.size())) {
+                this.compactQuietly();
+            }
+        });
+    }
+
+    private void compactQuietly() {
         try {
-            // Make sure we don't save when another thread is still saving
-            final String serialized = this.gson.toJson(this.usernameByUniqueId);
-            Files.write(this.cacheFile, serialized.getBytes(UsernameCache.CHARSET));
-            this.dirty = false;
+            this.compact();
         } catch (final IOException e) {
             SpongeCommon.logger().error("Failed to save username cache to file!", e);
         }
     }
+
+    /**
+     * Writes a fresh snapshot and drops the log. Any change that is missed
+     * by the snapshot has its log entry queued behind this, so it ends up
+     * in the new log.
+     */
+    private void compact() throws IOException {
+        final Path temp = this.cacheFile.resolveSibling(this.cacheFile.getFileName() + ".tmp");
+        final Map<Long, UUID> order = new TreeMap<>();
+        this.setAt.forEach((uniqueId, setAt) -> order.put(setAt, uniqueId));
+        final Map<UUID, String> snapshot = new LinkedHashMap<>();
+        for (final UUID uniqueId : order.values()) {
+            final @Nullable String username = this.usernameByUniqueId.get(uniqueId);
+            if (username != null) {
+                snapshot.put(uniqueId, username);
+            }
+        }
+        try (final BufferedWriter writer = Files.newBufferedWriter(temp, UsernameCache.CHARSET)) {
+            this.gson.toJson(snapshot, writer);
+        }
+        try {
+            Files.move(temp, this.cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, this.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.closeLog();
+        Files.deleteIfExists(this.logFile);
+        this.logEntries = 0;
+    }
+
+    private void closeLog() {
+        if (this.log != null) {
+            try {
+                this.log.close();
+            } catch (final IOException e) {
+                SpongeCommon.logger().error("Failed to close username cache log!", e);
+            }
+            this.log = null;
+        }
+    }
+
+    private void deleteFile(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            SpongeCommon.logger().error("Failed to delete username cache file from disk!", e);
+        }
+    }
 }
@@ -48,6 +48,12 @@ static net.minecraft.resources.ResourceKey<Level> createRegistryKey(final Resour
 
     void loadLevel();
 
+    /**
+     * Waits for running copy, move and delete operations and stops the
+     * threads they run on. Called when the server is stopping.
+     */
+    void shutdown();
+
     default String getDirectoryName(final ResourceKey key) {
         final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(key);
         if (Level.OVERWORLD.equals(registryKey)) {
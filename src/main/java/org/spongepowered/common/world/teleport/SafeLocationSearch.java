@@ -0,0 +1,285 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.teleport.TeleportHelperFilter;
+import org.spongepowered.common.accessor.server.level.ServerChunkCacheAccessor;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * A single safe location lookup, probing the positions of a
+ * {@link ShellIterator} in order until one passes every filter.
+ *
+ * <p>Blocks are read straight from the sections of each chunk, which are
+ * kept until the search yields the server thread. Whether a block state is a safe floor or
+ * body is asked of the filters once per state and remembered in a table
+ * for the set of filters that left the location undecided.</p>
+ */
+final class SafeLocationSearch {
+
+    private static final byte COMPUTED = 1;
+    private static final byte SAFE_FLOOR = 2;
+    private static final byte SAFE_BODY = 4;
+
+    private final ServerLevel level;
+    private final ShellIterator positions;
+    private final int floorDistanceCheck;
+    private final TeleportHelperFilter[] filters;
+    // Keyed by the bit mask of the filters that returned UNDEFINED for the location
+    private final Long2ObjectOpenHashMap<byte[]> stateTables = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<LevelChunkSection[]> sections = new Long2ObjectOpenHashMap<>();
+    private final LongSet unavailableChunks = new LongOpenHashSet();
+    private @Nullable Vector3i pending;
+
+    SafeLocationSearch(final ServerLevel level, final ShellIterator positions, final int floorDistanceCheck,
+            final Collection<TeleportHelperFilter> filters) {
+        if (filters.size() > Long.SIZE) {
+            throw new IllegalArgumentException("Cannot search with more than " + Long.SIZE + " filters");
+        }
+        this.level = level;
+        this.positions = positions;
+        this.floorDistanceCheck = floorDistanceCheck;
+        this.filters = filters.toArray(new TeleportHelperFilter[0]);
+    }
+
+    /**
+     * Searches until a safe location is found, loading chunks as they are
+     * needed.
+     *
+     * @return The safe location, if any
+     */
+    Optional<Vector3i> find() {
+        while (this.positions.hasNext()) {
+            final Vector3i target = this.positions.next();
+            if (this.probe(target, true) == Tristate.TRUE) {
+                return Optional.of(target);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Searches without loading chunks on the server thread. When a position
+     * falls in a chunk that isn't loaded, the chunk is requested and the
+     * search resumes on the server thread once it is available.
+     *
+     * <p>Must be called on the server thread.</p>
+     *
+     * @param future The future to complete with the result
+     */
+    void findAsync(final CompletableFuture<Optional<Vector3i>> future) {
+        // Chunks may have been unloaded or reloaded since the last run, look them up again
+        this.sections.clear();
+        this.resume(future);
+    }
+
+    private void resume(final CompletableFuture<Optional<Vector3i>> future) {
+        try {
+            while (this.pending != null || this.positions.hasNext()) {
+                final Vector3i target = this.pending == null ? this.positions.next() : this.pending;
+                this.pending = null;
+                final Tristate result = this.probe(target, false);
+                if (result == Tristate.TRUE) {
+                    future.complete(Optional.of(target));
+                    return;
+                }
+                if (result == Tristate.UNDEFINED) {
+                    this.pending = target;
+                    this.requestChunk(target.x() >> 4, target.z() >> 4, future);
+                    return;
+                }
+            }
+            future.complete(Optional.empty());
+        } catch (final Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+    private void requestChunk(final int chunkX, final int chunkZ, final CompletableFuture<Optional<Vector3i>> future) {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        ((ServerChunkCacheAccessor) this.level.getChunkSource()).invoker$getChunkFutureMainThread(chunkX, chunkZ, ChunkStatus.FULL, true)
+            .whenComplete((result, t) -> this.level.getServer().execute(() -> {
+                final @Nullable ChunkAccess chunk = t == null ? result.left().orElse(null) : null;
+                this.sections.clear();
+                if (chunk instanceof LevelChunk) {
+                    // Only the one tick ticket keeps this chunk around, so it is only used for this run
+                    this.sections.put(key, ((LevelChunk) chunk).getSections());
+                } else {
+                    this.unavailableChunks.add(key);
+                }
+                this.resume(future);
+            }));
+    }
+
+    /**
+     * Checks a position against the filters.
+     *
+     * @return {@link Tristate#TRUE} if safe, {@link Tristate#FALSE} if not, or
+     *     {@link Tristate#UNDEFINED} if its chunk isn't loaded and load is false
+     */
+    private Tristate probe(final Vector3i target, final boolean load) {
+        // Every block we look at is in the target's column
+        final long chunkKey = ChunkPos.asLong(target.x() >> 4, target.z() >> 4);
+        if (this.unavailableChunks.contains(chunkKey)) {
+            return Tristate.FALSE;
+        }
+        final LevelChunkSection @Nullable [] sections = this.sections(chunkKey, target.x() >> 4, target.z() >> 4, load);
+        if (sections == null) {
+            return Tristate.UNDEFINED;
+        }
+
+        long undefined = 0;
+        for (int i = 0; i < this.filters.length; i++) {
+            // If any return Tristate.FALSE, we're not safe.
+            final Tristate isValid = this.filters[i].isValidLocation((ServerWorld) this.level, target);
+            if (isValid == Tristate.FALSE) {
+                return Tristate.FALSE;
+            }
+            if (isValid == Tristate.UNDEFINED) {
+                undefined |= 1L << i;
+            }
+        }
+
+        // If we don't have any undefined results, then the filters have settled it.
+        if (undefined == 0) {
+            return Tristate.TRUE;
+        }
+
+        final byte[] table = this.stateTable(undefined);
+        final int x = target.x();
+        final int y = target.y();
+        final int z = target.z();
+        // The block and the one ABOVE must be safe for the body, with a floor close enough below.
+        if ((this.flags(table, undefined, sections, x, y, z) & SafeLocationSearch.SAFE_BODY) == 0
+                || (this.flags(table, undefined, sections, x, y + 1, z) & SafeLocationSearch.SAFE_BODY) == 0) {
+            return Tristate.FALSE;
+        }
+        return Tristate.fromBoolean(this.floorDistanceCheck <= 0 || this.isFloorSafe(table, undefined, sections, x, y, z));
+    }
+
+    private boolean isFloorSafe(final byte[] table, final long undefined, final LevelChunkSection[] sections, final int x, final int y,
+            final int z) {
+        for (int i = 1; i < this.floorDistanceCheck; ++i) {
+            final int flags = this.flags(table, undefined, sections, x, y - i, z);
+
+            // If it's a safe floor, we can just say yes now.
+            if ((flags & SafeLocationSearch.SAFE_FLOOR) != 0) {
+                return true;
+            }
+
+            // If it's not safe for the body, then we don't want to go through it anyway.
+            if ((flags & SafeLocationSearch.SAFE_BODY) == 0) {
+                return false;
+            }
+        }
+
+        // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
+        return (this.flags(table, undefined, sections, x, y - this.floorDistanceCheck, z) & SafeLocationSearch.SAFE_FLOOR) != 0;
+    }
+
+    private int flags(final byte[] table, final long undefined, final LevelChunkSection[] sections, final int x, final int y, final int z) {
+        if (y < 0) {
+            // Anything below this isn't safe, no point going further.
+            return 0;
+        }
+        final BlockState state = SafeLocationSearch.blockState(sections, x, y, z);
+        final int id = Block.getId(state);
+        int flags = table[id];
+        if (flags == 0) {
+            flags = SafeLocationSearch.COMPUTED;
+            if (this.allMatch(undefined, filter -> filter.isSafeFloorMaterial((org.spongepowered.api.block.BlockState) state))) {
+                flags |= SafeLocationSearch.SAFE_FLOOR;
+            }
+            if (this.allMatch(undefined, filter -> filter.isSafeBodyMaterial((org.spongepowered.api.block.BlockState) state))) {
+                flags |= SafeLocationSearch.SAFE_BODY;
+            }
+            table[id] = (byte) flags;
+        }
+        return flags;
+    }
+
+    private boolean allMatch(final long mask, final Predicate<TeleportHelperFilter> predicate) {
+        for (int i = 0; i < this.filters.length; i++) {
+            if ((mask & (1L << i)) != 0 && !predicate.test(this.filters[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] stateTable(final long undefined) {
+        byte[] table = this.stateTables.get(undefined);
+        if (table == null) {
+            table = new byte[Block.BLOCK_STATE_REGISTRY.size()];
+            this.stateTables.put(undefined, table);
+        }
+        return table;
+    }
+
+    private LevelChunkSection @Nullable [] sections(final long key, final int chunkX, final int chunkZ, final boolean load) {
+        LevelChunkSection[] sections = this.sections.get(key);
+        if (sections == null) {
+            final @Nullable LevelChunk chunk = load ? this.level.getChunk(chunkX, chunkZ) : this.level.getChunkSource().getChunkNow(chunkX, chunkZ);
+            if (chunk == null) {
+                return null;
+            }
+            sections = chunk.getSections();
+            this.sections.put(key, sections);
+        }
+        return sections;
+    }
+
+    private static BlockState blockState(final LevelChunkSection[] sections, final int x, final int y, final int z) {
+        final int index = y >> 4;
+        if (index >= sections.length) {
+            return Blocks.AIR.defaultBlockState();
+        }
+        final LevelChunkSection section = sections[index];
+        if (LevelChunkSection.isEmpty(section)) {
+            return Blocks.AIR.defaultBlockState();
+        }
+        return section.getBlockState(x & 15, y & 15, z & 15);
+    }
+}
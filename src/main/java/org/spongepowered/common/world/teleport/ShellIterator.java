@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazily walks every position of a box in order of distance from a centre,
+ * preferring changes in Y over X and Z, and higher over lower positions when
+ * the distance is the same.
+ *
+ * <p>Each Y level is a {@link Plane} that produces its own positions in order
+ * of horizontal distance, and the planes are merged by their total distance.
+ * Only the positions that are about to be returned are ever generated, so
+ * nothing proportional to the size of the box is allocated up front.</p>
+ */
+final class ShellIterator implements Iterator<Vector3i> {
+
+    private static final Comparator<Plane> PLANE_ORDER = Comparator.<Plane>comparingLong(plane -> plane.distance)
+            .thenComparingInt(plane -> -Math.abs(plane.dy))
+            .thenComparingInt(plane -> -plane.dy);
+
+    private final Vector3i centre;
+    private final PriorityQueue<Plane> planes = new PriorityQueue<>(ShellIterator.PLANE_ORDER);
+
+    ShellIterator(final Vector3i centre, final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ) {
+        this.centre = centre;
+        for (int y = minY; y <= maxY; y++) {
+            final Plane plane = new Plane(y - centre.y(), minX - centre.x(), maxX - centre.x(), minZ - centre.z(), maxZ - centre.z());
+            if (plane.advance()) {
+                this.planes.add(plane);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.planes.isEmpty();
+    }
+
+    @Override
+    public Vector3i next() {
+        final Plane plane = this.planes.poll();
+        if (plane == null) {
+            throw new NoSuchElementException();
+        }
+        final Vector3i next = this.centre.add(plane.dx, plane.dy, plane.dz);
+        if (plane.advance()) {
+            this.planes.add(plane);
+        }
+        return next;
+    }
+
+    /**
+     * The positions of a single Y level, merged from one {@link Column} per
+     * X offset. Columns are only created once their closest position could
+     * be the next one returned.
+     */
+    private static final class Plane {
+
+        final int dy;
+        private final long dy2;
+        private final int minDx;
+        private final int maxDx;
+        private final int minDz;
+        private final int maxDz;
+        private final int maxMagnitude;
+        private final PriorityQueue<Column> columns = new PriorityQueue<>(Comparator.comparingLong(column -> column.distance));
+        private int nextMagnitude;
+
+        int dx;
+        int dz;
+        long distance;
+
+        Plane(final int dy, final int minDx, final int maxDx, final int minDz, final int maxDz) {
+            this.dy = dy;
+            this.dy2 = (long) dy * dy;
+            this.minDx = minDx;
+            this.maxDx = maxDx;
+            this.minDz = minDz;
+            this.maxDz = maxDz;
+            this.maxMagnitude = Math.max(Math.abs(minDx), Math.abs(maxDx));
+        }
+
+        boolean advance() {
+            // A column for |dx| can't hold anything closer than dx * dx, so it can wait until the head gets that far out
+            while (this.nextMagnitude <= this.maxMagnitude
+                    && (this.columns.isEmpty() || (long) this.nextMagnitude * this.nextMagnitude <= this.columns.peek().distance)) {
+                this.addColumn(this.nextMagnitude);
+                if (this.nextMagnitude != 0) {
+                    this.addColumn(-this.nextMagnitude);
+                }
+                this.nextMagnitude++;
+            }
+            final Column column = this.columns.poll();
+            if (column == null) {
+                return false;
+            }
+            this.dx = column.dx;
+            this.dz = column.dz;
+            this.distance = column.distance + this.dy2;
+            if (column.advance()) {
+                this.columns.add(column);
+            }
+            return true;
+        }
+
+        private void addColumn(final int dx) {
+            if (dx < this.minDx || dx > this.maxDx) {
+                return;
+            }
+            final Column column = new Column(dx, this.minDz, this.maxDz);
+            if (column.advance()) {
+                this.columns.add(column);
+            }
+        }
+    }
+
+    /**
+     * The positions of a single X offset within a {@link Plane}, walking Z
+     * outwards as 0, 1, -1, 2, -2 and so on.
+     */
+    private static final class Column {
+
+        final int dx;
+        private final long dx2;
+        private final int minDz;
+        private final int maxDz;
+        private final int maxMagnitude;
+        private int nextDz;
+
+        int dz;
+        long distance;
+
+        Column(final int dx, final int minDz, final int maxDz) {
+            this.dx = dx;
+            this.dx2 = (long) dx * dx;
+            this.minDz = minDz;
+            this.maxDz = maxDz;
+            this.maxMagnitude = Math.max(Math.abs(minDz), Math.abs(maxDz));
+        }
+
+        boolean advance() {
+            while (Math.abs(this.nextDz) <= this.maxMagnitude) {
+                final int candidate = this.nextDz;
+                this.nextDz = candidate > 0 ? -candidate : 1 - candidate;
+                if (candidate >= this.minDz && candidate <= this.maxDz) {
+                    this.dz = candidate;
+                    this.distance = this.dx2 + (long) candidate * candidate;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
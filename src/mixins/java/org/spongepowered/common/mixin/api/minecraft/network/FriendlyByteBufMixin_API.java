@@ -633,7 +633,7 @@ public UUID getUniqueId(final int index) {
 
     public DataView cbuf$readDataView() {
         try {
-            return NBTTranslator.INSTANCE.translateFrom(this.shadow$readNbt());
+            return NBTTranslator.INSTANCE.wrap(this.shadow$readNbt());
         } catch (final IOException e) {
             throw new DecoderException(e);
         }
@@ -34,6 +34,7 @@
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.title.Title;
 import net.minecraft.commands.Commands;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.server.MinecraftServer;
@@ -79,6 +80,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
+import org.spongepowered.common.adventure.BroadcastAudience;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
@@ -431,6 +433,16 @@ public void sendMessage(final Identity identity, final Component message, final
         this.shadow$getPlayerList().broadcastMessage(SpongeAdventure.asVanilla(message), SpongeAdventure.asVanilla(type), identity.uuid());
     }
 
+    @Override
+    public void sendActionBar(final Component message) {
+        BroadcastAudience.sendActionBar(this.audiences(), message);
+    }
+
+    @Override
+    public void showTitle(final Title title) {
+        BroadcastAudience.showTitle(this.audiences(), title);
+    }
+
     @Override
     public ServiceProvider.ServerScoped serviceProvider() {
         return ((MinecraftServerBridge) this).bridge$getServiceProvider();
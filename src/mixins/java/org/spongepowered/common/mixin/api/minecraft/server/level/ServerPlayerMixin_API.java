@@ -85,6 +85,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.world.level.border.WorldBorderAccessor;
+import org.spongepowered.common.adventure.BroadcastAudience;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.server.PlayerAdvancementsBridge;
 import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
@@ -480,7 +481,7 @@ public void showTitle(final Title title) {
         }
         final Title.Times times = Objects.requireNonNull(title, "title").times();
         if (times != null) {
-            this.connection.send(new ClientboundSetTitlesPacket(this.api$durationToTicks(times.fadeIn()), this.api$durationToTicks(times.stay()), this.api$durationToTicks(times.fadeOut())));
+            this.connection.send(new ClientboundSetTitlesPacket(BroadcastAudience.durationToTicks(times.fadeIn()), BroadcastAudience.durationToTicks(times.stay()), BroadcastAudience.durationToTicks(times.fadeOut())));
         }
         this.connection.send(new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.SUBTITLE, SpongeAdventure.asVanilla(title.subtitle())));
         this.connection.send(new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.TITLE, SpongeAdventure.asVanilla(title.title())));
@@ -582,8 +583,4 @@ public void openBook(@NonNull final Book book) {
     public @NonNull Locale locale() {
         return ((ServerPlayerBridge) this).bridge$getLanguage();
     }
-
-    private int api$durationToTicks(final Duration duration) {
-        return (int) (duration.toMillis() / 50L);
-    }
 }
@@ -271,7 +271,7 @@ public DataContainer toContainer() {
         final Transform transform = this.transform();
         final CompoundTag compound = new CompoundTag();
         this.shadow$saveAsPassenger(compound);
-        final DataContainer unsafeNbt = NBTTranslator.INSTANCE.translateFrom(compound);
+        final DataContainer unsafeNbt = NBTTranslator.INSTANCE.wrap(compound);
         final DataContainer container = DataContainer.createNew()
                 .set(Queries.CONTENT_VERSION, this.contentVersion())
                 .set(Constants.Entity.CLASS, this.getClass().getName())
@@ -173,7 +173,7 @@ public DataContainer toContainer() {
             }
             Constants.NBT.filterSpongeCustomData(compound); // We must filter the custom data so it isn't stored twice
             if (!compound.isEmpty()) {
-                final DataContainer unsafeNbt = NBTTranslator.INSTANCE.translateFrom(compound);
+                final DataContainer unsafeNbt = NBTTranslator.INSTANCE.wrap(compound);
                 container.set(Constants.Sponge.UNSAFE_NBT, unsafeNbt);
             }
         }
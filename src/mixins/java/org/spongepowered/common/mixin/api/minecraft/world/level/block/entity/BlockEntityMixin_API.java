@@ -116,7 +116,7 @@ public DataContainer toContainer() {
         final CompoundTag compound = new CompoundTag();
         this.shadow$save(compound);
         Constants.NBT.filterSpongeCustomData(compound); // We must filter the custom data so it isn't stored twice
-        container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(compound));
+        container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.wrap(compound));
 //        final Collection<Mutable<?, ?>> manipulators = ((CustomDataHolderBridge) this).bridge$getCustomManipulators();
 //        if (!manipulators.isEmpty()) {
 //            container.set(Constants.Sponge.DATA_MANIPULATORS, DataUtil.getSerializedManipulatorList(manipulators));
@@ -70,8 +70,6 @@ public abstract class MapItemSavedDataMixin extends SavedData implements MapItem
      */
     // @formatter:off
     @Final @Shadow public Map<String, MapDecoration> decorations;
-
-    @Shadow public abstract void shadow$setDirty(int x, int y);
     // @formatter:on
 
     private int impl$mapId; // Set in <init>
@@ -82,12 +80,6 @@ public MapItemSavedDataMixin(final String name) {
         super(name);
     }
 
-    @Override
-    public void bridge$updateWholeMap() {
-        this.shadow$setDirty(0,0);
-        this.shadow$setDirty(Constants.Map.MAP_MAX_INDEX, Constants.Map.MAP_MAX_INDEX);
-    }
-
     @SuppressWarnings("SuspiciousMethodCalls")
     @Override
     public void bridge$setDecorations(final Set<org.spongepowered.api.map.decoration.MapDecoration> newDecorations) {
@@ -32,6 +32,7 @@
 import com.mojang.brigadier.tree.ArgumentCommandNode;
 import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.RootCommandNode;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.EventContextKeys;
@@ -47,6 +48,7 @@
 import org.spongepowered.common.bridge.commands.CommandSourceStackBridge;
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.bridge.commands.arguments.CompletionsArgumentTypeBridge;
+import org.spongepowered.common.bridge.network.protocol.game.ClientboundCommandsPacketBridge;
 import org.spongepowered.common.command.brigadier.dispatcher.DelegatingCommandDispatcher;
 import org.spongepowered.common.command.brigadier.dispatcher.SpongeNodePermissionCache;
 import org.spongepowered.common.command.brigadier.tree.SpongeArgumentCommandNode;
@@ -58,15 +60,20 @@
 import org.spongepowered.common.util.CommandUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.commands.AdvancementCommands;
 import net.minecraft.server.level.ServerPlayer;
 
@@ -83,10 +90,16 @@ public abstract class CommandsMixin implements CommandsBridge {
     }
     // @formatter:on
 
+    private static final int MAX_CACHED_COMMAND_PACKETS = 256;
+
     private CauseStackManager.StackFrame impl$initFrame = null;
     private final WeakHashMap<ServerPlayer, Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>>> impl$playerNodeCache =
             new WeakHashMap<>();
     private SpongeCommandManager impl$commandManager;
+    private final Map<BitSet, ClientboundCommandsPacket> impl$commandPacketCache = new HashMap<>();
+    private int impl$commandPacketCacheVersion = -1;
+    private @Nullable BitSet impl$pendingFingerprint;
+    private @Nullable ClientboundCommandsPacket impl$pendingPacket;
 
     // We prepare our own dispatcher and commands manager, to redirect registrations to our system
     @Redirect(method = "<init>", at = @At(
@@ -297,6 +310,14 @@ public abstract class CommandsMixin implements CommandsBridge {
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.addContext(EventContextKeys.SUBJECT, (Subject) playerEntity);
             final CommandCause sourceToUse = ((CommandSourceStackBridge) p_197052_3_).bridge$withCurrentCause();
+            final BitSet fingerprint = this.impl$fingerprint(p_197052_1_, sourceToUse);
+            final ClientboundCommandsPacket cached = this.impl$commandPacketCache.get(fingerprint);
+            if (cached != null) {
+                // Someone with the same permission outcomes has already had their tree built, no need to do it again.
+                this.impl$pendingPacket = cached;
+                return;
+            }
+            this.impl$pendingFingerprint = fingerprint;
             try {
                 this.impl$playerNodeCache.put(playerEntity, new IdentityHashMap<>());
                 // We use this because the redirects should be a 1:1 mapping (which is what this map is for).
@@ -311,6 +332,27 @@ public abstract class CommandsMixin implements CommandsBridge {
         }
     }
 
+    @Redirect(method = "sendCommands", at = @At(value = "NEW", args = "class=net/minecraft/network/protocol/game/ClientboundCommandsPacket"))
+    private ClientboundCommandsPacket impl$shareCommandsPacket(final RootCommandNode<SharedSuggestionProvider> root) {
+        final ClientboundCommandsPacket cached = this.impl$pendingPacket;
+        final BitSet fingerprint = this.impl$pendingFingerprint;
+        this.impl$pendingPacket = null;
+        this.impl$pendingFingerprint = null;
+        if (cached != null) {
+            return cached;
+        }
+        final ClientboundCommandsPacket packet = new ClientboundCommandsPacket(root);
+        if (fingerprint != null) {
+            ((ClientboundCommandsPacketBridge) packet).bridge$preEncode();
+            if (this.impl$commandPacketCache.size() >= CommandsMixin.MAX_CACHED_COMMAND_PACKETS) {
+                // Stale permission outcomes are never asked for again, so start over rather than growing forever.
+                this.impl$commandPacketCache.clear();
+            }
+            this.impl$commandPacketCache.put(fingerprint, packet);
+        }
+        return packet;
+    }
+
     @SuppressWarnings("unchecked")
     @Redirect(method = "fillUsableCommands",
             at = @At(value = "INVOKE", target = "Lcom/mojang/brigadier/builder/ArgumentBuilder;build()Lcom/mojang/brigadier/tree/CommandNode;", remap = false))
@@ -326,6 +368,47 @@ public abstract class CommandsMixin implements CommandsBridge {
         return this.impl$commandManager;
     }
 
+    /**
+     * Records whether the source passes each node that fillUsableCommands
+     * would test, in the order it would test them, followed by the
+     * requirements of the non-brigadier suggestion trees. Two sources with
+     * the same fingerprint are sent the same command tree.
+     */
+    private BitSet impl$fingerprint(final CommandNode<CommandSourceStack> root, final CommandCause cause) {
+        final int version = this.impl$commandManager.commandTreeVersion();
+        if (version != this.impl$commandPacketCacheVersion) {
+            this.impl$commandPacketCache.clear();
+            this.impl$commandPacketCacheVersion = version;
+        }
+        final BitSet fingerprint = new BitSet();
+        int index = this.impl$fingerprintChildren(root, (CommandSourceStack) cause, fingerprint, 0, Collections.newSetFromMap(new IdentityHashMap<>()));
+        index = this.impl$commandManager.fingerprintNonBrigadierSuggestions(cause, fingerprint, index);
+        // Terminate the fingerprint so trailing failures are not lost to BitSet equality.
+        fingerprint.set(index);
+        return fingerprint;
+    }
+
+    private int impl$fingerprintChildren(
+            final CommandNode<CommandSourceStack> node,
+            final CommandSourceStack source,
+            final BitSet fingerprint,
+            final int index,
+            final Set<CommandNode<CommandSourceStack>> visited) {
+        final boolean isRoot = node instanceof RootCommandNode;
+        int next = index;
+        for (final CommandNode<CommandSourceStack> child : this.impl$getChildrenFromNode(node)) {
+            final int bit = next++;
+            if (SpongeNodePermissionCache.canUse(isRoot, this.impl$commandManager.getDispatcher(), child, source)) {
+                fingerprint.set(bit);
+                // Outcomes below a node do not change between visits, so only walk it once, like the player node cache does.
+                if (visited.add(child)) {
+                    next = this.impl$fingerprintChildren(child, source, fingerprint, next, visited);
+                }
+            }
+        }
+        return next;
+    }
+
     private Collection<CommandNode<CommandSourceStack>> impl$getChildrenFromNode(final CommandNode<CommandSourceStack> parentNode) {
         final Collection<CommandNode<CommandSourceStack>> nodes;
         if (parentNode instanceof SpongeNode) {
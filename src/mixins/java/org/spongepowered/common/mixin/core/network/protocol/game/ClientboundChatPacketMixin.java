@@ -0,0 +1,61 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network.protocol.game;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundChatPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.network.protocol.game.LocalizedPacketBridge;
+import org.spongepowered.common.network.PreEncodedPacket;
+
+import java.util.Locale;
+
+@Mixin(ClientboundChatPacket.class)
+public abstract class ClientboundChatPacketMixin implements LocalizedPacketBridge {
+
+    private @Nullable PreEncodedPacket impl$preEncoded;
+
+    @Inject(method = "write", at = @At("HEAD"), cancellable = true)
+    private void impl$writePreEncoded(final FriendlyByteBuf buf, final CallbackInfo ci) {
+        final @Nullable PreEncodedPacket preEncoded = this.impl$preEncoded;
+        if (preEncoded != null && preEncoded.write(buf)) {
+            ci.cancel();
+        }
+    }
+
+    @Override
+    public void bridge$preEncode(final @Nullable Locale locale) {
+        if (this.impl$preEncoded == null) {
+            this.impl$preEncoded = new PreEncodedPacket();
+        }
+        this.impl$preEncoded.encode((Packet<?>) this, locale);
+    }
+
+}
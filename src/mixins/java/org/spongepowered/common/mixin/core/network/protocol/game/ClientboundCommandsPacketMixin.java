@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network.protocol.game;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.network.protocol.game.ClientboundCommandsPacketBridge;
+
+import java.io.IOException;
+
+@Mixin(ClientboundCommandsPacket.class)
+public abstract class ClientboundCommandsPacketMixin implements ClientboundCommandsPacketBridge {
+
+    // @formatter:off
+    @Shadow public abstract void shadow$write(FriendlyByteBuf buf) throws IOException;
+    // @formatter:on
+
+    private byte[] impl$encoded;
+
+    @Inject(method = "write", at = @At("HEAD"), cancellable = true)
+    private void impl$writePreEncodedTree(final FriendlyByteBuf buf, final CallbackInfo ci) {
+        final byte[] encoded = this.impl$encoded;
+        if (encoded != null) {
+            buf.writeBytes(encoded);
+            ci.cancel();
+        }
+    }
+
+    @Override
+    public void bridge$preEncode() {
+        if (this.impl$encoded != null) {
+            return;
+        }
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            this.shadow$write(buf);
+            final byte[] encoded = new byte[buf.readableBytes()];
+            buf.readBytes(encoded);
+            this.impl$encoded = encoded;
+        } catch (final IOException e) {
+            // Leave it to the connection to encode the tree as usual.
+            SpongeCommon.logger().debug("Could not pre-encode command tree packet", e);
+        } finally {
+            buf.release();
+        }
+    }
+
+}
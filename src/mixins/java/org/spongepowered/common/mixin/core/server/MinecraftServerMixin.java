@@ -164,6 +164,7 @@ public Subject subject() {
     @Inject(method = "tickServer", at = @At("TAIL"))
     private void impl$tickServerScheduler(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
         this.scheduler().tick();
+        this.userManager().tickSaves();
     }
 
     @Override
@@ -210,6 +211,11 @@ public String getServerModName() {
         }
     }
 
+    @Inject(method = "stopServer", at = @At(value = "TAIL"))
+    private void impl$finishOfflineUserWrites(final CallbackInfo ci) {
+        this.userManager().shutdown();
+    }
+
     @ModifyConstant(method = "tickServer", constant = @Constant(intValue = 6000, ordinal = 0))
     private int getSaveTickInterval(final int tickInterval) {
         if (!this.shadow$isDedicatedServer()) {
@@ -84,6 +84,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.network.protocol.game.ClientboundRespawnPacketAccessor;
+import org.spongepowered.common.adventure.BroadcastAudience;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.client.server.IntegratedPlayerListBridge;
 import org.spongepowered.common.bridge.network.ConnectionBridge;
@@ -99,6 +100,7 @@
 import org.spongepowered.common.server.PerWorldBorderListener;
 import org.spongepowered.common.service.server.ban.SpongeIPBanList;
 import org.spongepowered.common.service.server.ban.SpongeUserBanList;
+import org.spongepowered.common.service.server.permission.SpongePermissionService;
 import org.spongepowered.common.service.server.whitelist.SpongeUserWhiteList;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.NetworkUtil;
@@ -148,6 +150,11 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         this.whitelist = new SpongeUserWhiteList(PlayerList.WHITELIST_FILE);
     }
 
+    @Inject(method = "broadcastAll(Lnet/minecraft/network/protocol/Packet;)V", at = @At("HEAD"))
+    private void impl$preEncodeBroadcast(final Packet<?> packet, final CallbackInfo ci) {
+        BroadcastAudience.preEncode(this.players, packet);
+    }
+
     @Override
     public void bridge$setOriginalDestinationDimension(final ResourceKey<Level> dimension) {
         this.impl$originalDestination = dimension;
@@ -528,4 +535,9 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         ((SpongeServer) SpongeCommon.server()).userManager().saveDirtyUsers();
     }
 
+    @Inject(method = "setAllowCheatsForAllPlayers", at = @At("RETURN"))
+    private void impl$invalidateOpLevels(final boolean allowCheats, final CallbackInfo ci) {
+        SpongePermissionService.onOpsChanged();
+    }
+
 }
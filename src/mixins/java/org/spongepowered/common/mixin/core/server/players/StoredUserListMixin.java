@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.core.server.players;
 
+import net.minecraft.server.players.ServerOpList;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -32,6 +33,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.service.server.permission.SpongePermissionService;
 
 import java.io.File;
 import java.util.List;
@@ -47,4 +49,11 @@ public abstract class StoredUserListMixin {
         return list.add(this.shadow$getKeyForUser(object)); // Mojang didn't implement this correctly, so we'll fix it
     }
 
+    @Inject(method = {"add", "remove(Ljava/lang/Object;)V", "remove(Lnet/minecraft/server/players/StoredUserEntry;)V", "load"}, at = @At("RETURN"))
+    private void impl$invalidateOpLevels(final CallbackInfo ci) {
+        if ((Object) this instanceof ServerOpList) {
+            SpongePermissionService.onOpsChanged();
+        }
+    }
+
 }
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.level.chunk.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.storage.IOWorker;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.world.level.chunk.storage.IOWorkerBridge;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Mixin(IOWorker.class)
+public abstract class IOWorkerMixin implements IOWorkerBridge {
+
+    // @formatter:off
+    @Shadow public abstract CompletableFuture<Void> shadow$store(ChunkPos pos, CompoundTag tag);
+    // @formatter:on
+
+    // Guarded by this worker, null unless writes are being held
+    private @Nullable Map<ChunkPos, CompoundTag> impl$heldWrites;
+
+    @Override
+    public synchronized void bridge$holdWrites() {
+        if (this.impl$heldWrites == null) {
+            this.impl$heldWrites = new LinkedHashMap<>();
+        }
+    }
+
+    @Override
+    public void bridge$releaseWrites() {
+        final @Nullable Map<ChunkPos, CompoundTag> held;
+        synchronized (this) {
+            held = this.impl$heldWrites;
+            this.impl$heldWrites = null;
+        }
+        if (held != null) {
+            held.forEach(this::shadow$store);
+        }
+    }
+
+    @Inject(method = "store", at = @At("HEAD"), cancellable = true)
+    private void impl$holdWrite(final ChunkPos pos, final CompoundTag tag, final CallbackInfoReturnable<CompletableFuture<Void>> cir) {
+        synchronized (this) {
+            if (this.impl$heldWrites != null) {
+                this.impl$heldWrites.put(pos, tag);
+                cir.setReturnValue(CompletableFuture.completedFuture(null));
+            }
+        }
+    }
+
+    @Inject(method = "load", at = @At("HEAD"), cancellable = true)
+    private void impl$loadHeldWrite(final ChunkPos pos, final CallbackInfoReturnable<@Nullable CompoundTag> cir) {
+        synchronized (this) {
+            if (this.impl$heldWrites != null) {
+                final @Nullable CompoundTag tag = this.impl$heldWrites.get(pos);
+                if (tag != null) {
+                    cir.setReturnValue(tag);
+                }
+            }
+        }
+    }
+
+    @Inject(method = "close", at = @At("HEAD"))
+    private void impl$releaseWritesOnClose(final CallbackInfo ci) {
+        // Nothing may be lost if the world is closed while a copy is still running
+        this.bridge$releaseWrites();
+    }
+}
@@ -106,7 +106,7 @@ public boolean closeInventory() throws IllegalArgumentException {
             ctx.buildAndSwitch();
             final net.minecraft.world.entity.player.Inventory inventory = this.inventory;
             final ItemStackSnapshot cursor = ItemStackUtil.snapshotOf(inventory.getCarried());
-            return !SpongeCommonEventFactory.callInteractInventoryCloseEvent(openContainer, (net.minecraft.server.level.ServerPlayer) (Object) this, cursor, cursor, false).isCancelled();
+            return !SpongeCommonEventFactory.callInteractInventoryCloseEvent(openContainer, (net.minecraft.server.level.ServerPlayer) (Object) this, cursor, cursor, false);
         }
     }
 
@@ -44,6 +44,7 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.bridge.world.entity.player.PlayerInventoryBridge;
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.inventory.InventoryEventFactory;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
@@ -83,6 +84,9 @@ public abstract class LivingEntityMixin_Inventory {
     @Inject(method = "handleEquipmentChanges",
             at = @At(value = "INVOKE", target = "Ljava/util/Map;forEach(Ljava/util/function/BiConsumer;)V"))
     private void inventory$onHandleEquipmentChanges(Map<EquipmentSlot, ItemStack> map, CallbackInfo ci) {
+        if (!ShouldFire.CHANGE_ENTITY_EQUIPMENT_EVENT) {
+            return;
+        }
         if ((Object) this instanceof Player && ((Entity) (Object) this).tickCount == 1) {
             // Ignore Equipment on player spawn/respawn
             return;
@@ -36,6 +36,7 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.inventory.InventoryEventFactory;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.util.ContainerUtil;
@@ -84,6 +85,9 @@ public abstract class EnchantmentContainerMixin_Inventory {
     // enchantItem lambda
     @Inject(method = "*", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/player/Player;onEnchantmentPerformed(Lnet/minecraft/world/item/ItemStack;I)V"), require = 1)
     private void impl$beforeEnchantItem(CallbackInfo ci) {
+        if (!ShouldFire.ENCHANT_ITEM_EVENT_POST) {
+            return;
+        }
         this.prevItem = ItemStackUtil.snapshotOf(this.enchantSlots.getItem(0));
         this.prevLapis = ItemStackUtil.snapshotOf(this.enchantSlots.getItem(1));
     }
@@ -92,6 +96,9 @@ public abstract class EnchantmentContainerMixin_Inventory {
     @Inject(method = "*", cancellable = true,
             at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/player/Player;awardStat(Lnet/minecraft/resources/ResourceLocation;)V"), require = 1)
     private void impl$afterEnchantItem(ItemStack itemstack, int id, Player playerIn, int i, ItemStack itemstack1, Level arg5, BlockPos arg6, CallbackInfo ci) {
+        if (!ShouldFire.ENCHANT_ITEM_EVENT_POST) {
+            return;
+        }
         ItemStackSnapshot newItem = ItemStackUtil.snapshotOf(this.enchantSlots.getItem(0));
         ItemStackSnapshot newLapis = ItemStackUtil.snapshotOf(this.enchantSlots.getItem(1));
 
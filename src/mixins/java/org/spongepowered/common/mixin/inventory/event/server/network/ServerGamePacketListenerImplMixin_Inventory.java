@@ -39,6 +39,8 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedContainerBridge;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedInventoryBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.inventory.InventoryEventFactory;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 
@@ -54,6 +56,11 @@ private void onProcessCreativeInventoryAction(ServerboundSetCreativeModeSlotPack
         final ItemStack itemstack = packetIn.getItem();
         boolean flag2 = itemstack.isEmpty() || itemstack.getDamageValue() >= 0 && itemstack.getCount() <= 64 && !itemstack.isEmpty();
         if (flag2) {
+            if (!ShouldFire.CLICK_CONTAINER_EVENT_CREATIVE) {
+                ((TrackedInventoryBridge) this.player.containerMenu).bridge$getCapturedSlotTransactions().clear();
+                ((TrackedInventoryBridge) this.player.containerMenu).bridge$setCaptureInventory(false);
+                return;
+            }
             // TODO handle vanilla sending a bunch of creative events (previously ignoring events within 100ms)
             final ClickContainerEvent.Creative clickEvent = InventoryEventFactory.callCreativeClickContainerEvent(this.player, packetIn);
             if (clickEvent.isCancelled()) {
@@ -25,6 +25,8 @@
 package org.spongepowered.common.mixin.plugin.entityactivation;
 
 import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -52,6 +54,7 @@
 import net.minecraft.world.entity.projectile.AbstractHurtingProjectile;
 import net.minecraft.world.entity.projectile.FireworkRocketEntity;
 import net.minecraft.world.entity.projectile.ThrowableProjectile;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
 import org.spongepowered.api.data.Keys;
@@ -60,7 +63,6 @@
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.world.entity.EntityAccessor;
-import org.spongepowered.common.accessor.world.phys.AABBAccessor;
 import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
@@ -74,7 +76,9 @@
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public final class EntityActivationRange {
@@ -87,13 +91,6 @@ public final class EntityActivationRange {
         .put((byte) 5, "misc")
         .build();
 
-    static AABB maxBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB miscBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB creatureBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB monsterBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB aquaticBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB ambientBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB tileEntityBB = new AABB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = new HashMap<>();
 
     /**
@@ -188,31 +185,15 @@ public static void initializeEntityActivationState(final Entity entity) {
         }
     }
 
-    /**
-     * Utility method to grow an AABB without creating a new AABB or touching
-     * the pool, so we can re-use ones we have.
-     *
-     * @param target The AABB to modify
-     * @param source The AABB to get initial coordinates from
-     * @param x The x value to expand by
-     * @param y The y value to expand by
-     * @param z The z value to expand by
-     * @return An AABB
-     */
-    public static AABB growBb(final AABB target, final AABB source, final int x, final int y, final int z) {
-        ((AABBAccessor) target).accessor$setMinX(source.minX - x);
-        ((AABBAccessor) target).accessor$setMinY(source.minY - y);
-        ((AABBAccessor) target).accessor$setMinZ(source.minZ - z);
-        ((AABBAccessor) target).accessor$setMaxX(source.maxX + x);
-        ((AABBAccessor) target).accessor$setMaxY(source.maxY + y);
-        ((AABBAccessor) target).accessor$setMaxZ(source.maxZ + z);
-        return target;
-    }
-
     /**
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>The activation areas of all players are first merged into a map of
+     * chunks, each holding the players that may activate entities within it,
+     * so that every chunk and its entities are only visited once per tick no
+     * matter how many players overlap it.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(final ServerLevel world) {
@@ -220,46 +201,62 @@ public static void activateEntities(final ServerLevel world) {
             return;
         }
 
-        for (final ServerPlayer player : world.players()) {
-            int maxRange = 0;
-            for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        final List<ServerPlayer> players = world.players();
+        if (players.isEmpty()) {
+            return;
+        }
+
+        int maxRange = 0;
+        for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
-            ((ActivationCapabilityBridge) player).activation$setActivatedTick(SpongeCommon.server().getTickCount());
-            final AABB aabb = EntityActivationRange.maxBB;
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), maxRange, 256, maxRange);
-
-            final int i = Mth.floor(aabb.minX / 16.0D);
-            final int j = Mth.floor(aabb.maxX / 16.0D);
-            final int k = Mth.floor(aabb.minZ / 16.0D);
-            final int l = Mth.floor(aabb.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    final LevelChunk chunk = world.getChunkSource().getChunkNow(i1, j1);
-                    if (chunk != null) {
-                        EntityActivationRange.activateChunkEntities(player, chunk);
+        final long currentTick = SpongeCommon.server().getTickCount();
+        final Long2ObjectMap<List<ServerPlayer>> activationChunks = new Long2ObjectOpenHashMap<>();
+        for (final ServerPlayer player : players) {
+            ((ActivationCapabilityBridge) player).activation$setActivatedTick(currentTick);
+
+            final AABB aabb = player.getBoundingBox();
+            final int minChunkX = Mth.floor((aabb.minX - maxRange) / 16.0D);
+            final int maxChunkX = Mth.floor((aabb.maxX + maxRange) / 16.0D);
+            final int minChunkZ = Mth.floor((aabb.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = Mth.floor((aabb.maxZ + maxRange) / 16.0D);
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                    List<ServerPlayer> chunkPlayers = activationChunks.get(ChunkPos.asLong(chunkX, chunkZ));
+                    if (chunkPlayers == null) {
+                        chunkPlayers = new ArrayList<>(2);
+                        activationChunks.put(ChunkPos.asLong(chunkX, chunkZ), chunkPlayers);
                     }
+                    chunkPlayers.add(player);
                 }
             }
         }
+
+        for (final Long2ObjectMap.Entry<List<ServerPlayer>> entry : activationChunks.long2ObjectEntrySet()) {
+            final long pos = entry.getLongKey();
+            final LevelChunk chunk = world.getChunkSource().getChunkNow(ChunkPos.getX(pos), ChunkPos.getZ(pos));
+            if (chunk != null) {
+                EntityActivationRange.activateChunkEntities(entry.getValue(), chunk, currentTick);
+            }
+        }
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param players The players whose activation area covers the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
      */
-    private static void activateChunkEntities(final Player player, final LevelChunk chunk) {
-
+    private static void activateChunkEntities(final List<ServerPlayer> players, final LevelChunk chunk, final long currentTick) {
         for (final ClassInstanceMultiMap<Entity> entitySection : chunk.getEntitySections()) {
             for (final Entity entity : entitySection) {
                 final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
-                final long currentTick = SpongeCommon.server().getTickCount();
                 if (!((TrackableBridge) entity).bridge$shouldTick()) {
                     continue;
                 }
@@ -277,36 +274,29 @@ private static void activateChunkEntities(final Player player, final LevelChunk
                     spongeEntity.activation$requiresActivationCacheRefresh(false);
                 }
 
-                // check for entity type overrides
-                final AABB aabb;
-                switch (spongeEntity.activation$getActivationType()) {
-                    case 5:
-                        aabb = EntityActivationRange.miscBB;
-                        break;
-                    case 4:
-                        aabb = EntityActivationRange.ambientBB;
-                        break;
-                    case 3:
-                        aabb = EntityActivationRange.aquaticBB;
-                        break;
-                    case 2:
-                        aabb = EntityActivationRange.creatureBB;
+                final int activationRange = spongeEntity.activation$getActivationRange();
+                final AABB entityBox = entity.getBoundingBox();
+                for (int i = 0; i < players.size(); i++) {
+                    if (EntityActivationRange.isInActivationRange(players.get(i).getBoundingBox(), activationRange, entityBox)) {
+                        spongeEntity.activation$setActivatedTick(currentTick);
                         break;
-                    default:
-                        aabb = EntityActivationRange.monsterBB;
-                        break;
-                }
-
-                final int bbActivationRange = spongeEntity.activation$getActivationRange();
-                EntityActivationRange.growBb(aabb, player.getBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                if (aabb.intersects(entity.getBoundingBox())) {
-                    spongeEntity.activation$setActivatedTick(currentTick);
+                    }
                 }
             }
-
         }
     }
 
+    /**
+     * Equivalent to growing the source AABB by the given range (and 256
+     * vertically) and testing it against the target, without touching any
+     * shared AABB instance.
+     */
+    private static boolean isInActivationRange(final AABB source, final int range, final AABB target) {
+        return source.minX - range < target.maxX && source.maxX + range > target.minX
+            && source.minY - 256 < target.maxY && source.maxY + 256 > target.minY
+            && source.minZ - range < target.maxZ && source.maxZ + range > target.minZ;
+    }
+
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
@@ -36,6 +36,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.world.entity.player.PlayerBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.item.util.ItemStackUtil;
@@ -98,46 +99,49 @@ public ItemEntity drop(final ItemStack droppedItem, final boolean dropAround, fi
             final double posZ1 = player.getZ();
             // Now the real fun begins.
             final ItemStack item;
-            final ItemStackSnapshot snapshot = ItemStackUtil.snapshotOf(droppedItem);
-            final List<ItemStackSnapshot> original = new ArrayList<>();
-            original.add(snapshot);
+            if (ShouldFire.DROP_ITEM_EVENT_PRE || ShouldFire.CONSTRUCT_ENTITY_EVENT_PRE) {
+                final ItemStackSnapshot snapshot = ItemStackUtil.snapshotOf(droppedItem);
+                final List<ItemStackSnapshot> original = new ArrayList<>();
+                original.add(snapshot);
 
-            try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
-
-                item = SpongeCommonEventFactory.throwDropItemAndConstructEvent((Player) (PlayerBridge) this, posX1, posY1, posZ1, snapshot, original, frame);
-
-                if (item == null || item.isEmpty()) {
-                    return null;
+                try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+                    item = SpongeCommonEventFactory.throwDropItemAndConstructEvent((Player) (PlayerBridge) this, posX1, posY1, posZ1, snapshot, original, frame);
                 }
+            } else {
+                item = droppedItem;
+            }
 
-                // Here is where we would potentially perform item pre-merging (merge the item stacks with previously captured item stacks
-                // and only if those stacks can be stacked (count increased). Otherwise, we'll just continue to throw the entity item.
-                // For now, due to refactoring a majority of all of this code, pre-merging is disabled entirely.
+            if (item == null || item.isEmpty()) {
+                return null;
+            }
 
-                final ItemEntity itemEntity = new ItemEntity(player.level, posX1, posY1, posZ1, droppedItem);
-                itemEntity.setPickUpDelay(40);
+            // Here is where we would potentially perform item pre-merging (merge the item stacks with previously captured item stacks
+            // and only if those stacks can be stacked (count increased). Otherwise, we'll just continue to throw the entity item.
+            // For now, due to refactoring a majority of all of this code, pre-merging is disabled entirely.
 
-                if (traceItem) {
-                    itemEntity.setThrower(player.getUUID());
-                }
+            final ItemEntity itemEntity = new ItemEntity(player.level, posX1, posY1, posZ1, droppedItem);
+            itemEntity.setPickUpDelay(40);
 
-                final Random random = player.getRandom();
-                if (dropAround) {
-                    final float f = random.nextFloat() * 0.5F;
-                    final float f1 = random.nextFloat() * ((float) Math.PI * 2F);
-                    itemEntity.setDeltaMovement(-Mth.sin(f1) * f, 0.2F, Mth.cos(f1) * f);
-                } else {
-                    final float f8 = Mth.sin(this.xRot * ((float)Math.PI / 180F));
-                    final float f2 = Mth.cos(this.xRot * ((float)Math.PI / 180F));
-                    final float f3 = Mth.sin(this.yRot * ((float)Math.PI / 180F));
-                    final float f4 = Mth.cos(this.yRot * ((float)Math.PI / 180F));
-                    final float f5 = this.random.nextFloat() * ((float)Math.PI * 2F);
-                    final float f6 = 0.02F * this.random.nextFloat();
-                    itemEntity.setDeltaMovement((double)(-f3 * f2 * 0.3F) + Math.cos(f5) * (double)f6, (-f8 * 0.3F + 0.1F + (this.random.nextFloat() - this.random.nextFloat()) * 0.1F), (double)(f4 * f2 * 0.3F) + Math.sin(f5) * (double)f6);
-                }
+            if (traceItem) {
+                itemEntity.setThrower(player.getUUID());
+            }
 
-                return itemEntity;
+            final Random random = player.getRandom();
+            if (dropAround) {
+                final float f = random.nextFloat() * 0.5F;
+                final float f1 = random.nextFloat() * ((float) Math.PI * 2F);
+                itemEntity.setDeltaMovement(-Mth.sin(f1) * f, 0.2F, Mth.cos(f1) * f);
+            } else {
+                final float f8 = Mth.sin(this.xRot * ((float)Math.PI / 180F));
+                final float f2 = Mth.cos(this.xRot * ((float)Math.PI / 180F));
+                final float f3 = Mth.sin(this.yRot * ((float)Math.PI / 180F));
+                final float f4 = Mth.cos(this.yRot * ((float)Math.PI / 180F));
+                final float f5 = this.random.nextFloat() * ((float)Math.PI * 2F);
+                final float f6 = 0.02F * this.random.nextFloat();
+                itemEntity.setDeltaMovement((double)(-f3 * f2 * 0.3F) + Math.cos(f5) * (double)f6, (-f8 * 0.3F + 0.1F + (this.random.nextFloat() - this.random.nextFloat()) * 0.1F), (double)(f4 * f2 * 0.3F) + Math.sin(f5) * (double)f6);
             }
+
+            return itemEntity;
         }
         // Sponge end
         this.shadow$swing(InteractionHand.MAIN_HAND);
@@ -161,6 +161,11 @@ public abstract class LevelChunkMixin_Tracker implements TrackedLevelChunkBridge
             && (snapshot.blockChange == BlockChange.BREAK || snapshot.blockChange == BlockChange.MODIFY)) {
             transaction.queuedRemoval = existing;
         }
+        // Replacing the block may drop or clear the contents of the existing block entity,
+        // so its data has to be saved now rather than when the snapshot is first used
+        if (existing != null && currentState.getBlock() != newState.getBlock()) {
+            snapshot.captureBlockEntityData();
+        }
 
         final ChunkPipeline.Builder builder = ChunkPipeline.builder()
             .kickOff(transaction)
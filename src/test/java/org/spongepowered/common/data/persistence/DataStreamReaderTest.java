@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.util.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+
+public class DataStreamReaderTest {
+
+    @Test
+    void testJsonTokens() throws IOException {
+        final String json = "{\"foo\":\"bar\",\"arr\":{\"_arraytype\":\"int\",\"value\":[1,2,3]},\"view\":{\"a\":true},\"l\":[1,2]}";
+        try (final DataStreamReader reader = new JsonDataFormat().reader(new StringReader(json))) {
+            reader.beginView();
+            assertEquals("foo", reader.nextName());
+            assertEquals("bar", reader.nextValue());
+            assertEquals("arr", reader.nextName());
+            assertEquals(DataStreamReader.Token.VALUE, reader.peek());
+            assertArrayEquals(new int[] {1, 2, 3}, (int[]) reader.nextValue());
+            assertEquals("view", reader.nextName());
+            reader.beginView();
+            assertEquals("a", reader.nextName());
+            assertEquals(true, reader.nextValue());
+            reader.endView();
+            assertEquals("l", reader.nextName());
+            reader.skipValue();
+            assertFalse(reader.hasNext());
+            reader.endView();
+            assertEquals(DataStreamReader.Token.END_DOCUMENT, reader.peek());
+        }
+    }
+
+    @Test
+    void testNbtTokens() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(Constants.NBT.TAG_COMPOUND);
+            out.writeUTF("");
+            out.writeByte(Constants.NBT.TAG_BYTE);
+            out.writeUTF("flag" + NBTTranslator.BOOLEAN_IDENTIFIER);
+            out.writeByte(1);
+            out.writeByte(Constants.NBT.TAG_LIST);
+            out.writeUTF("list");
+            out.writeByte(Constants.NBT.TAG_INT);
+            out.writeInt(2);
+            out.writeInt(4);
+            out.writeInt(5);
+            out.writeByte(Constants.NBT.TAG_COMPOUND);
+            out.writeUTF("view");
+            out.writeByte(Constants.NBT.TAG_STRING);
+            out.writeUTF("name");
+            out.writeUTF("value");
+            out.writeByte(Constants.NBT.TAG_END);
+            out.writeByte(Constants.NBT.TAG_END);
+        }
+        try (final DataStreamReader reader = new NBTDataFormat().reader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            reader.beginView();
+            assertEquals("flag", reader.nextName());
+            assertEquals(true, reader.nextValue());
+            assertEquals("list", reader.nextName());
+            reader.beginList();
+            assertEquals(4, reader.nextValue());
+            assertEquals(5, reader.nextValue());
+            reader.endList();
+            assertEquals("view", reader.nextName());
+            reader.beginView();
+            assertEquals("name", reader.nextName());
+            assertEquals("value", reader.nextValue());
+            reader.endView();
+            reader.endView();
+            assertEquals(DataStreamReader.Token.END_DOCUMENT, reader.peek());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class DataStreamWriterTest {
+
+    private static DataContainer createView() {
+        final DataContainer view = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        view.set(DataQuery.of("name"), "value");
+        view.set(DataQuery.of("count"), 3);
+        view.set(DataQuery.of("flag"), true);
+        view.set(DataQuery.of("ints"), new int[] {1, 2, 3});
+        view.set(DataQuery.of("list"), Arrays.asList("a", "b"));
+        view.set(DataQuery.of("inner", "off"), false);
+        view.set(DataQuery.of("inner", "depth"), 2);
+        return view;
+    }
+
+    /**
+     * A map written as a value, booleans keyed by a query and by a plain
+     * string are written differently by the NBT writer.
+     */
+    private static Map<Object, Object> createMap() {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put(DataQuery.of("queried"), true);
+        map.put("named", true);
+        map.put("number", 7);
+        return map;
+    }
+
+    private static DataContainer read(final DataStreamReader reader) throws IOException {
+        final DataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        try {
+            reader.nextView(container);
+        } finally {
+            reader.close();
+        }
+        return container;
+    }
+
+    private static void assertViewRoundTrips(final DataView read) {
+        assertEquals(Optional.of("value"), read.get(DataQuery.of("name")));
+        assertEquals(Optional.of(3), read.get(DataQuery.of("count")));
+        assertEquals(Optional.of(true), read.get(DataQuery.of("flag")));
+        assertArrayEquals(new int[] {1, 2, 3}, (int[]) read.get(DataQuery.of("ints")).get());
+        assertEquals(Optional.of(Arrays.asList("a", "b")), read.get(DataQuery.of("list")));
+        assertEquals(Optional.of(false), read.get(DataQuery.of("inner", "off")));
+        assertEquals(Optional.of(2), read.get(DataQuery.of("inner", "depth")));
+    }
+
+    @Test
+    void testNbtRoundTrip() throws IOException {
+        final NBTDataFormat format = new NBTDataFormat();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        format.writeTo(bytes, DataStreamWriterTest.createView());
+
+        // Same tags as the translator, including the boolean markers
+        final CompoundTag written = NbtIo.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(NBTTranslator.INSTANCE.translate(DataStreamWriterTest.createView()), written);
+
+        DataStreamWriterTest.assertViewRoundTrips(DataStreamWriterTest.read(format.reader(new ByteArrayInputStream(bytes.toByteArray()))));
+    }
+
+    @Test
+    void testNbtMapBooleans() throws IOException {
+        final NBTDataFormat format = new NBTDataFormat();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataStreamWriter writer = format.writer(bytes)) {
+            writer.beginView();
+            writer.name("map");
+            writer.value(DataStreamWriterTest.createMap());
+            writer.endView();
+        }
+
+        final CompoundTag expected = new CompoundTag();
+        expected.put("map", NBTTranslator.getBaseFromObject(DataStreamWriterTest.createMap()));
+        final CompoundTag written = NbtIo.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(expected, written);
+
+        // Only the boolean keyed by a query reads back as a boolean
+        final DataView read = DataStreamWriterTest.read(format.reader(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(Optional.of(true), read.get(DataQuery.of("map", "queried")));
+        assertEquals(Optional.of((byte) 1), read.get(DataQuery.of("map", "named")));
+        assertEquals(Optional.of(7), read.get(DataQuery.of("map", "number")));
+    }
+
+    @Test
+    void testJsonRoundTrip() throws IOException {
+        final JsonDataFormat format = new JsonDataFormat();
+        final StringWriter json = new StringWriter();
+        try (final DataStreamWriter writer = format.writer(json)) {
+            writer.view(DataStreamWriterTest.createView());
+        }
+        assertEquals(format.write(DataStreamWriterTest.createView()), json.toString());
+
+        DataStreamWriterTest.assertViewRoundTrips(DataStreamWriterTest.read(format.reader(new StringReader(json.toString()))));
+    }
+
+    @Test
+    void testJsonMapBooleans() throws IOException {
+        final JsonDataFormat format = new JsonDataFormat();
+        final StringWriter json = new StringWriter();
+        try (final DataStreamWriter writer = format.writer(json)) {
+            writer.beginView();
+            writer.name("map");
+            writer.value(DataStreamWriterTest.createMap());
+            writer.endView();
+        }
+        assertEquals("{\"map\":{\"queried\":true,\"named\":true,\"number\":7}}", json.toString());
+
+        // Json has booleans of its own, so both keys read back as booleans
+        final DataView read = DataStreamWriterTest.read(format.reader(new StringReader(json.toString())));
+        assertEquals(Optional.of(true), read.get(DataQuery.of("map", "queried")));
+        assertEquals(Optional.of(true), read.get(DataQuery.of("map", "named")));
+        assertEquals(Optional.of(7), read.get(DataQuery.of("map", "number")));
+    }
+
+}
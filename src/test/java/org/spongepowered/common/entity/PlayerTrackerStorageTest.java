@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.util.Constants;
+
+public class PlayerTrackerStorageTest {
+
+    @Test
+    void testSetAndGet() {
+        final PlayerTrackerStorage storage = new PlayerTrackerStorage();
+        assertTrue(storage.isEmpty());
+        storage.set(3, 70, 12, PlayerTracker.Type.CREATOR, 5);
+        storage.set(3, 70, 12, PlayerTracker.Type.NOTIFIER, 9);
+        storage.set(0, 300, 0, PlayerTracker.Type.NOTIFIER, 5);
+
+        assertEquals(5, storage.get(3, 70, 12, PlayerTracker.Type.CREATOR));
+        assertEquals(9, storage.get(3, 70, 12, PlayerTracker.Type.NOTIFIER));
+        assertEquals(PlayerTrackerStorage.NONE, storage.get(0, 300, 0, PlayerTracker.Type.CREATOR));
+        assertEquals(5, storage.get(0, 300, 0, PlayerTracker.Type.NOTIFIER));
+        assertFalse(storage.contains(4, 70, 12));
+
+        storage.set(3, 70, 12, PlayerTracker.Type.CREATOR, PlayerTrackerStorage.NONE);
+        assertTrue(storage.contains(3, 70, 12));
+        storage.remove(3, 70, 12);
+        storage.remove(0, 300, 0);
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    void testDenseSectionRoundTrip() {
+        final PlayerTrackerStorage storage = new PlayerTrackerStorage();
+        // Enough blocks in one section to leave the sorted arrays behind
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    storage.set(x, y, z, PlayerTracker.Type.CREATOR, (x + z) % 7);
+                }
+            }
+        }
+        storage.set(15, 15, 15, PlayerTracker.Type.NOTIFIER, 42);
+
+        final CompoundTag data = new CompoundTag();
+        storage.write(data);
+        final PlayerTrackerStorage read = new PlayerTrackerStorage();
+        read.read(data);
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    assertEquals((x + z) % 7, read.get(x, y, z, PlayerTracker.Type.CREATOR));
+                }
+            }
+        }
+        assertEquals(42, read.get(15, 15, 15, PlayerTracker.Type.NOTIFIER));
+        assertEquals(PlayerTrackerStorage.NONE, read.get(14, 15, 15, PlayerTracker.Type.NOTIFIER));
+    }
+
+    @Test
+    void testLegacyTableIsMigrated() {
+        final ListTag table = new ListTag();
+        final CompoundTag shortPos = new CompoundTag();
+        shortPos.putShort("pos", (short) (2 | 64 << 4 | 9 << 12));
+        shortPos.putInt("owner", 1);
+        shortPos.putInt("notifier", 3);
+        table.add(shortPos);
+        final CompoundTag intPos = new CompoundTag();
+        intPos.putInt("ipos", 7 | 300 << 4 | 11 << 28);
+        intPos.putInt("owner", -1);
+        intPos.putInt("notifier", 4);
+        table.add(intPos);
+        final CompoundTag data = new CompoundTag();
+        data.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, table);
+
+        final PlayerTrackerStorage storage = new PlayerTrackerStorage();
+        storage.read(data);
+        assertEquals(1, storage.get(2, 64, 9, PlayerTracker.Type.CREATOR));
+        assertEquals(3, storage.get(2, 64, 9, PlayerTracker.Type.NOTIFIER));
+        assertEquals(PlayerTrackerStorage.NONE, storage.get(7, 300, 11, PlayerTracker.Type.CREATOR));
+        assertEquals(4, storage.get(7, 300, 11, PlayerTracker.Type.NOTIFIER));
+    }
+
+}
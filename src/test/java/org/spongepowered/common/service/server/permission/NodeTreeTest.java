@@ -110,4 +110,26 @@ public void testCreateFromValues() throws Exception {
         Assertions.assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testSegmentLookup() {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            testPermissions.put("plugin" + i + ".command", i % 2 == 0);
+        }
+        testPermissions.put("Mixed.Case", true);
+        testPermissions.put("trailing.", false);
+
+        final NodeTree nodes = NodeTreeTest.FACTORY.ofBooleans(testPermissions, Tristate.UNDEFINED);
+
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals(Tristate.fromBoolean(i % 2 == 0), nodes.get("plugin" + i + ".command.sub"));
+        }
+        Assertions.assertEquals(Tristate.TRUE, nodes.get("mixed.case"));
+        Assertions.assertEquals(Tristate.TRUE, nodes.get("MIXED.CASE.child"));
+        Assertions.assertEquals(Tristate.FALSE, nodes.get("trailing."));
+        Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("trailing"));
+        Assertions.assertEquals(Tristate.UNDEFINED, nodes.get(""));
+        Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("plugin1"));
+    }
 }
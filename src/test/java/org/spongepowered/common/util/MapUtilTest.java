@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MapUtilTest {
+
+    @Test
+    void testUnchangedCanvasIsNotSent() {
+        final RecordingMapData mapData = new RecordingMapData();
+        Arrays.fill(mapData.colors, (byte) 4);
+        final byte[] canvas = mapData.colors.clone();
+
+        MapUtil.writeCanvas(mapData, canvas);
+        assertArrayEquals(canvas, mapData.colors);
+        assertEquals(0, mapData.dirty.size());
+    }
+
+    @Test
+    void testSinglePixelIsSentAlone() {
+        final RecordingMapData mapData = new RecordingMapData();
+        final byte[] canvas = mapData.colors.clone();
+        canvas[MapUtilTest.index(5, 7)] = 34;
+
+        MapUtil.writeCanvas(mapData, canvas);
+        assertArrayEquals(canvas, mapData.colors);
+        assertEquals(Arrays.asList("5,7", "5,7"), mapData.dirty);
+    }
+
+    @Test
+    void testFullWidthChangeIsSent() {
+        final RecordingMapData mapData = new RecordingMapData();
+        final byte[] canvas = mapData.colors.clone();
+        for (int y = 10; y <= 12; y++) {
+            for (int x = 0; x < Constants.Map.MAP_PIXELS; x++) {
+                canvas[MapUtilTest.index(x, y)] = (byte) (x + y);
+            }
+        }
+
+        MapUtil.writeCanvas(mapData, canvas);
+        assertArrayEquals(canvas, mapData.colors);
+        assertEquals(Arrays.asList("0,10", Constants.Map.MAP_MAX_INDEX + ",12"), mapData.dirty);
+    }
+
+    @Test
+    void testChangesAreSentAsTheirBoundingRectangle() {
+        final RecordingMapData mapData = new RecordingMapData();
+        final byte[] canvas = mapData.colors.clone();
+        canvas[MapUtilTest.index(100, 3)] = 1;
+        canvas[MapUtilTest.index(2, 9)] = 2;
+
+        MapUtil.writeCanvas(mapData, canvas);
+        assertArrayEquals(canvas, mapData.colors);
+        assertEquals(Arrays.asList("2,3", "100,9"), mapData.dirty);
+    }
+
+    private static int index(final int x, final int y) {
+        return y * Constants.Map.MAP_PIXELS + x;
+    }
+
+    /**
+     * Map data that records the pixels it is told are dirty, in place of
+     * players holding the map.
+     */
+    private static final class RecordingMapData extends MapItemSavedData {
+
+        final List<String> dirty = new ArrayList<>();
+
+        RecordingMapData() {
+            super("map_0");
+        }
+
+        @Override
+        public void setDirty(final int x, final int y) {
+            this.dirty.add(x + "," + y);
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+public class UsernameCacheTest {
+
+    @Test
+    void testLookupIgnoresCase(@TempDir final Path directory) {
+        final UsernameCache cache = new UsernameCache(directory);
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        cache.setUsername(first, "Notch");
+        cache.setUsername(second, "jeb_");
+
+        assertEquals(first, cache.getLastKnownUUID("notch"));
+        assertEquals(second, cache.getLastKnownUUID("JEB_"));
+        assertNull(cache.getLastKnownUUID("Dinnerbone"));
+
+        // A renamed player no longer answers to their old name
+        cache.setUsername(first, "Dinnerbone");
+        assertNull(cache.getLastKnownUUID("notch"));
+        assertEquals(first, cache.getLastKnownUUID("dinnerbone"));
+
+        // Taking over a name points it at the new holder
+        cache.setUsername(second, "dinnerBONE");
+        assertEquals(second, cache.getLastKnownUUID("Dinnerbone"));
+        cache.close();
+    }
+
+    @Test
+    void testLogIsReplayed(@TempDir final Path directory) throws IOException {
+        final UUID kept = UUID.randomUUID();
+        final UUID removed = UUID.randomUUID();
+        Files.write(directory.resolve("usernamecache.json"),
+                ("{\"" + kept + "\":\"Alex\",\"" + removed + "\":\"Steve\"}").getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("usernamecache.log"),
+                (kept + " Alexandra\n" + removed + "\n").getBytes(StandardCharsets.UTF_8));
+
+        final UsernameCache cache = new UsernameCache(directory);
+        cache.load();
+        assertEquals("Alexandra", cache.getLastKnownUsername(kept));
+        assertEquals(kept, cache.getLastKnownUUID("ALEXANDRA"));
+        assertNull(cache.getLastKnownUUID("Alex"));
+        assertFalse(cache.containsUUID(removed));
+        assertNull(cache.getLastKnownUUID("steve"));
+
+        cache.setUsername(removed, "Herobrine");
+        cache.close();
+        assertFalse(Files.exists(directory.resolve("usernamecache.log")));
+
+        final UsernameCache reloaded = new UsernameCache(directory);
+        reloaded.load();
+        assertEquals(removed, reloaded.getLastKnownUUID("herobrine"));
+        assertEquals("Alexandra", reloaded.getLastKnownUsername(kept));
+        reloaded.close();
+    }
+
+    @Test
+    void testSharedNamePointsAtLatestHolder(@TempDir final Path directory) throws IOException {
+        final UUID older = UUID.randomUUID();
+        final UUID newer = UUID.randomUUID();
+        final UUID latest = UUID.randomUUID();
+        // Both snapshot entries claim the name, the later one was set last
+        Files.write(directory.resolve("usernamecache.json"),
+                ("{\"" + older + "\":\"Alex\",\"" + newer + "\":\"alex\",\"" + latest + "\":\"Steve\"}").getBytes(StandardCharsets.UTF_8));
+
+        final UsernameCache cache = new UsernameCache(directory);
+        cache.load();
+        assertEquals(newer, cache.getLastKnownUUID("ALEX"));
+
+        // Logged changes are more recent than the snapshot
+        cache.setUsername(latest, "ALEX");
+        cache.setUsername(newer, "Alex");
+        cache.close();
+
+        final UsernameCache reloaded = new UsernameCache(directory);
+        reloaded.load();
+        assertEquals(newer, reloaded.getLastKnownUUID("alex"));
+        reloaded.close();
+    }
+
+    @Test
+    void testWritesAfterCloseAreKept(@TempDir final Path directory) {
+        final UUID uniqueId = UUID.randomUUID();
+        final UsernameCache cache = new UsernameCache(directory);
+        cache.close();
+        cache.setUsername(uniqueId, "Notch");
+        assertEquals(uniqueId, cache.getLastKnownUUID("notch"));
+
+        final UsernameCache reloaded = new UsernameCache(directory);
+        reloaded.load();
+        assertEquals("Notch", reloaded.getLastKnownUsername(uniqueId));
+        reloaded.close();
+    }
+
+}
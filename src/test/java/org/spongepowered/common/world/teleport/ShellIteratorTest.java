@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class ShellIteratorTest {
+
+    @Test
+    void testSymmetricBox() {
+        ShellIteratorTest.assertMatchesBruteForce(new Vector3i(0, 64, 0), -3, 61, -3, 3, 67, 3);
+    }
+
+    @Test
+    void testAsymmetricBox() {
+        ShellIteratorTest.assertMatchesBruteForce(new Vector3i(10, 5, -4), 8, 3, -9, 13, 6, -3);
+        ShellIteratorTest.assertMatchesBruteForce(new Vector3i(-7, 20, 2), -9, 20, 2, -1, 24, 4);
+    }
+
+    @Test
+    void testBorderClampedBox() {
+        // The centre sits on the edge of the box on one or more axes
+        ShellIteratorTest.assertMatchesBruteForce(new Vector3i(30, 0, 30), 26, 0, 26, 30, 3, 30);
+        ShellIteratorTest.assertMatchesBruteForce(new Vector3i(-30, 255, 0), -30, 252, -2, -27, 255, 2);
+        // Or outside of it entirely
+        ShellIteratorTest.assertMatchesBruteForce(new Vector3i(5, 10, 5), 0, 8, 0, 3, 12, 2);
+    }
+
+    @Test
+    void testSinglePosition() {
+        ShellIteratorTest.assertMatchesBruteForce(new Vector3i(1, 2, 3), 1, 2, 3, 1, 2, 3);
+    }
+
+    /**
+     * Positions at the same distance with the same Y offset may come out in
+     * any order, so only their sort keys are compared in sequence.
+     */
+    private static void assertMatchesBruteForce(final Vector3i centre, final int minX, final int minY, final int minZ, final int maxX,
+            final int maxY, final int maxZ) {
+        final List<Vector3i> expected = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    expected.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        final Comparator<Vector3i> order = Comparator.<Vector3i>comparingLong(position -> position.sub(centre).lengthSquared())
+                .thenComparingInt(position -> -Math.abs(position.y() - centre.y()))
+                .thenComparingInt(position -> -position.y());
+        expected.sort(order);
+
+        final ShellIterator iterator = new ShellIterator(centre, minX, minY, minZ, maxX, maxY, maxZ);
+        final Set<Vector3i> seen = new HashSet<>();
+        for (final Vector3i position : expected) {
+            Assertions.assertTrue(iterator.hasNext(), "Ran out of positions before " + position);
+            final Vector3i actual = iterator.next();
+            Assertions.assertEquals(0, order.compare(position, actual), "Expected a position like " + position + " but got " + actual);
+            Assertions.assertTrue(actual.x() >= minX && actual.x() <= maxX && actual.z() >= minZ && actual.z() <= maxZ,
+                    "Position " + actual + " is outside of the box");
+            Assertions.assertTrue(seen.add(actual), "Position " + actual + " was returned twice");
+        }
+        Assertions.assertFalse(iterator.hasNext());
+    }
+
+}
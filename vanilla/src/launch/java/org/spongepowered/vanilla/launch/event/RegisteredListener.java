@@ -30,7 +30,10 @@
 
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
 import co.aikar.timings.sponge.SpongeTimings;
 import org.spongepowered.common.event.SpongeEventListener;
 import org.spongepowered.plugin.PluginContainer;
@@ -39,6 +42,8 @@
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
@@ -50,14 +55,23 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final Class<?> @Nullable [] includedSubtypes;
+    private final Class<?> @Nullable [] excludedSubtypes;
     private Timing listenerTimer;
 
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
+        this(plugin, eventType, order, listener, beforeModifications, null, null);
+    }
+
+    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications,
+            Class<?> @Nullable [] includedSubtypes, Class<?> @Nullable [] excludedSubtypes) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.includedSubtypes = includedSubtypes;
+        this.excludedSubtypes = excludedSubtypes;
     }
 
     public PluginContainer getPlugin() {
@@ -76,6 +90,34 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets whether this listener could accept an event of the given
+     * concrete class according to its {@link Include} and {@link Exclude}
+     * subtype filters. Listeners which can never accept the class are left
+     * out of its baked handlers entirely.
+     *
+     * @param eventClass The concrete event class
+     * @return Whether the subtype filters accept the class
+     */
+    public boolean acceptsSubtype(final Class<?> eventClass) {
+        if (this.includedSubtypes != null) {
+            for (final Class<?> included : this.includedSubtypes) {
+                if (included.isAssignableFrom(eventClass)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (this.excludedSubtypes != null) {
+            for (final Class<?> excluded : this.excludedSubtypes) {
+                if (excluded.isAssignableFrom(eventClass)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.pluginTimings(this.plugin, this.getHandle().getClass().getSimpleName());
@@ -106,6 +148,7 @@ public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final Map<PluginContainer, List<RegisteredListener<?>>> listenersByPlugin = new ConcurrentHashMap<>();
 
         Cache(List<RegisteredListener<?>> listeners) {
             this.listeners = listeners;
@@ -121,6 +164,36 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        /**
+         * Gets the listeners owned by the given plugin. Plugins with
+         * listeners for this event type keep theirs for the lifetime of
+         * this cache, all others share the empty list.
+         *
+         * @param plugin The plugin
+         * @return The plugin's listeners
+         */
+        public List<RegisteredListener<?>> getListeners(final PluginContainer plugin) {
+            checkNotNull(plugin, "plugin");
+            final List<RegisteredListener<?>> cached = this.listenersByPlugin.get(plugin);
+            if (cached != null) {
+                return cached;
+            }
+            List<RegisteredListener<?>> pluginListeners = null;
+            for (final RegisteredListener<?> listener : this.listeners) {
+                if (listener.plugin == plugin) {
+                    if (pluginListeners == null) {
+                        pluginListeners = new ArrayList<>();
+                    }
+                    pluginListeners.add(listener);
+                }
+            }
+            if (pluginListeners == null) {
+                return Collections.emptyList();
+            }
+            this.listenersByPlugin.put(plugin, pluginListeners);
+            return pluginListeners;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(checkNotNull(order, "order"));
             if (list == null) {
@@ -43,6 +43,8 @@
 import org.spongepowered.api.event.GenericEvent;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
@@ -68,6 +70,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -76,7 +79,6 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Singleton
@@ -87,17 +89,24 @@ public final class VanillaEventManager implements SpongeEventManager {
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Only the entries that depend on the event class of an added or
+     * removed handler are invalidated, see {@link #bakedTypesByListenerType}.</p>
      */
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
         Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    /**
+     * An index from every listener event class that was consulted while
+     * baking to the baked event types that depend on it. Guarded by
+     * {@link #lock}.
+     */
+    private final Map<Class<?>, Set<EventType<?>>> bakedTypesByListenerType;
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders;
     private final Set<Object> registeredListeners;
 
     public VanillaEventManager() {
         this.lock = new Object();
         this.handlersByEvent = HashMultimap.create();
+        this.bakedTypesByListenerType = new IdentityHashMap<>();
         this.classLoaders = new IdentityHashMap<>();
         this.registeredListeners = new ReferenceOpenHashSet<>();
         this.checker = new ListenerChecker(ShouldFire.class);
@@ -156,19 +165,29 @@ public VanillaEventManager() {
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventClass,
-        final Listener listener, final EventListener<? super T> handler) {
-        return VanillaEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
+        final Method method, final Listener listener, final EventListener<? super T> handler) {
+        final @Nullable Include include = method.getAnnotation(Include.class);
+        final @Nullable Exclude exclude = method.getAnnotation(Exclude.class);
+        return VanillaEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler,
+            include == null ? null : include.value(), exclude == null ? null : exclude.value());
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
         final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+        return VanillaEventManager.createRegistration(plugin, eventType, order, beforeModifications, handler, null, null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
+        final Order order, final boolean beforeModifications, final EventListener<? super T> handler,
+        final Class<?> @Nullable [] includedSubtypes, final Class<?> @Nullable [] excludedSubtypes) {
         Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications,
+            includedSubtypes, excludedSubtypes);
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
@@ -177,22 +196,28 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
             .map(GenericTypeReflector::erase)
             .filter(Event.class::isAssignableFrom);
 
-        // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
-        //       filter code and makes the filter baking target more specific handlers.
+        // @Include and @Exclude are resolved against the concrete event class here,
+        // listeners which can never accept it are left out of the baked handlers.
+        final Class<T> eventClass = eventType.getType();
         synchronized (this.lock) {
             for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
                 final Class<?> type = it.next();
+                this.bakedTypesByListenerType.computeIfAbsent(type, k -> new HashSet<>()).add(eventType);
                 final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
                 if (GenericEvent.class.isAssignableFrom(type)) {
                     final Type genericType = Objects.requireNonNull(eventType.getGenericType());
                     for (final RegisteredListener<?> listener : listeners) {
                         final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
-                        if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
+                        if (TypeTokenUtil.isAssignable(genericType, genericType1) && listener.acceptsSubtype(eventClass)) {
                             handlers.add(listener);
                         }
                     }
                 } else {
-                    handlers.addAll(listeners);
+                    for (final RegisteredListener<?> listener : listeners) {
+                        if (listener.acceptsSubtype(eventClass)) {
+                            handlers.add(listener);
+                        }
+                    }
                 }
             }
         }
@@ -206,20 +231,42 @@ private void register(final RegisteredListener<? extends Event> handler) {
     }
 
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
 
         synchronized (this.lock) {
             for (RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changed.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+        this.invalidateHandlers(changed);
+    }
+
+    /**
+     * Invalidates the baked handlers of every event type which was baked
+     * using listeners registered for any of the given event classes.
+     *
+     * @param listenerTypes The event classes whose listeners changed
+     */
+    private void invalidateHandlers(final Set<Class<?>> listenerTypes) {
+        if (listenerTypes.isEmpty()) {
+            return;
+        }
+        final List<EventType<?>> affected = new ArrayList<>();
+        synchronized (this.lock) {
+            for (final Class<?> listenerType : listenerTypes) {
+                final Set<EventType<?>> bakedTypes = this.bakedTypesByListenerType.remove(listenerType);
+                if (bakedTypes != null) {
+                    affected.addAll(bakedTypes);
+                }
+            }
+        }
+        if (!affected.isEmpty()) {
+            this.handlersCache.invalidateAll(affected);
         }
     }
 
@@ -262,7 +309,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
                         continue;
                     }
 
-                    handlers.add(VanillaEventManager.createRegistration(plugin, eventType, listener, handler));
+                    handlers.add(VanillaEventManager.createRegistration(plugin, eventType, method, listener, handler));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -332,7 +379,7 @@ public <T extends Event> void registerListener(final PluginContainer plugin, fin
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
 
         synchronized (this.lock) {
             final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
@@ -340,16 +387,14 @@ private void unregister(final Predicate<RegisteredListener<?>> unregister) {
                 final RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventType().getType());
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+        this.invalidateHandlers(changed);
     }
 
     @Override
@@ -376,8 +421,12 @@ protected RegisteredListener.Cache getHandlerCache(final Event event) {
         return this.handlersCache.get(eventType);
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"unchecked", "rawtypes"})
     private boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
+        if (handlers.isEmpty()) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
+        final @Nullable AbstractEvent abstractEvent = event instanceof AbstractEvent ? (AbstractEvent) event : null;
         final Engine engine = EngineUtil.determineEngine();
 
         // If this event is being posted asynchronously then we don't want
@@ -385,8 +434,8 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
         if (engine == null) {
             for (final RegisteredListener handler : handlers) {
                 try {
-                    if (event instanceof AbstractEvent) {
-                        ((AbstractEvent) event).currentOrder = handler.getOrder();
+                    if (abstractEvent != null) {
+                        abstractEvent.currentOrder = handler.getOrder();
                     }
                     SpongeCommon.setActivePlugin(handler.getPlugin());
                     handler.handle(event);
@@ -396,42 +445,43 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
                     SpongeCommon.setActivePlugin(null);
                 }
             }
-            if (event instanceof AbstractEvent) {
-                ((AbstractEvent) event).currentOrder = null;
+            if (abstractEvent != null) {
+                abstractEvent.currentOrder = null;
             }
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") final RegisteredListener handler : handlers) {
+        for (final RegisteredListener handler : handlers) {
+            final PluginContainer plugin = handler.getPlugin();
             try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
-                final PhaseContext<?> context = this.createPluginContext(handler);
+                final PhaseContext<?> context = this.createPluginContext(plugin);
                 final Timing timings = handler.getTimingsHandler()) {
-                frame.pushCause(handler.getPlugin());
+                frame.pushCause(plugin);
                 if (context != null) {
                     context.buildAndSwitch();
                 }
                 timings.startTimingIfSync();
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
+                if (abstractEvent != null) {
+                    abstractEvent.currentOrder = handler.getOrder();
                 }
-                SpongeCommon.setActivePlugin(handler.getPlugin());
+                SpongeCommon.setActivePlugin(plugin);
                 handler.handle(event);
-            } catch (Throwable e) {
-                SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
+            } catch (final Throwable e) {
+                SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), plugin.metadata().id(), e);
             } finally {
                 SpongeCommon.setActivePlugin(null);
             }
         }
-        if (event instanceof AbstractEvent) {
-            ((AbstractEvent) event).currentOrder = null;
+        if (abstractEvent != null) {
+            abstractEvent.currentOrder = null;
         }
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
-    private @Nullable EventListenerPhaseContext createPluginContext(final RegisteredListener<?> handler) {
+    private @Nullable EventListenerPhaseContext createPluginContext(final PluginContainer plugin) {
         if (PhaseTracker.getInstance().getPhaseContext().allowsEventListener()) {
             return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
-                .source(handler.getPlugin());
+                .source(plugin);
         }
         return null;
     }
@@ -455,10 +505,6 @@ public boolean post(final Event event) {
 
     @Override
     public boolean postToPlugin(final Event event, final PluginContainer plugin) {
-        final List<RegisteredListener<?>> listeners = this.getHandlerCache(event).getListeners();
-        final List<RegisteredListener<?>> pluginListeners = listeners.stream()
-            .filter(l -> l.getPlugin() == plugin)
-            .collect(Collectors.toList());
-        return this.post(event, pluginListeners);
+        return this.post(event, this.getHandlerCache(event).getListeners(plugin));
     }
 }
@@ -25,6 +25,7 @@
 package org.spongepowered.vanilla.world;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -63,6 +64,7 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelSettings;
 import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.chunk.storage.IOWorker;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.levelgen.PatrolSpawner;
@@ -90,10 +92,13 @@
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
 import org.spongepowered.common.accessor.world.gen.DimensionGeneratorSettingsAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.storage.ChunkStorageAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.storage.SectionStorageAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PrimaryLevelDataAccessor;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
+import org.spongepowered.common.bridge.world.level.chunk.storage.IOWorkerBridge;
 import org.spongepowered.common.bridge.world.level.dimension.LevelStemBridge;
 import org.spongepowered.common.bridge.world.level.levelgen.WorldGenSettingsBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
@@ -115,24 +120,24 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -142,6 +147,11 @@ public final class VanillaWorldManager implements SpongeWorldManager {
     private final MinecraftServer server;
     private final Path dimensionsDataPackDirectory, defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
+    private final Set<ResourceKey> worldsInTransit = new HashSet<>();
+    private final ExecutorService ioExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge-World-IO-%d")
+            .setDaemon(true)
+            .build());
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", (i, o) -> i.compareTo(o));
 
@@ -322,6 +332,10 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) serverWorld);
         }
 
+        if (this.isInTransit(key)) {
+            return FutureUtil.completedWithException(new IOException(String.format("World '%s' is being copied, moved or deleted!", key)));
+        }
+
         this.saveTemplate(template);
 
         return this.loadWorld0(registryKey, ((SpongeWorldTemplate) template).asDimension(), ((WorldGenSettings) template.generationConfig()));
@@ -340,6 +354,10 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) world);
         }
 
+        if (this.isInTransit(key)) {
+            return FutureUtil.completedWithException(new IOException(String.format("World '%s' is being copied, moved or deleted!", key)));
+        }
+
         return this.loadTemplate(key).thenCompose(r -> {
             WorldTemplate loadedTemplate = r.orElse(null);
             if (loadedTemplate == null) {
@@ -628,13 +646,47 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.markInTransit(key, copyKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        try {
+            return this.copyWorld0(key, copyKey, registryKey);
+        } catch (final RuntimeException e) {
+            this.clearInTransit(key, copyKey);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Boolean> copyWorld0(final ResourceKey key, final ResourceKey copyKey,
+            final net.minecraft.resources.ResourceKey<Level> registryKey) {
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
+        final boolean disableLevelSaving;
+        final List<IOWorker> workers;
 
         if (loadedWorld != null) {
             disableLevelSaving = loadedWorld.noSave;
             loadedWorld.save(null, true, loadedWorld.noSave);
             loadedWorld.noSave = true;
+            // Turning off saving doesn't stop chunks from being written when they unload, so the
+            // workers keep those writes in memory until the copy is done. Anything written before
+            // that is flushed to the region files first.
+            workers = VanillaWorldManager.regionWorkers(loadedWorld);
+            for (final IOWorker worker : workers) {
+                ((IOWorkerBridge) worker).bridge$holdWrites();
+            }
+            try {
+                for (final IOWorker worker : workers) {
+                    worker.synchronize().join();
+                }
+            } catch (final RuntimeException e) {
+                VanillaWorldManager.releaseWrites(workers);
+                loadedWorld.noSave = disableLevelSaving;
+                throw e;
+            }
+        } else {
+            disableLevelSaving = false;
+            workers = Collections.emptyList();
         }
 
         final boolean isDefaultWorld = this.isDefaultWorld(key);
@@ -650,89 +702,77 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         final Path copyDirectory = isVanillaCopyWorld ? this.defaultWorldDirectory
                 .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(copyKey.namespace()).resolve(copyKey.value());
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+        final Path dimensionTemplate = this.getDataPackFile(key);
+        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
+
+        final CompletableFuture<Boolean> future = this.runInTransit(() -> {
+            final WorldFiles.Progress progress = new WorldFiles.Progress(String.format("Copying world '%s' to '%s'", key, copyKey));
+            try {
+                WorldFiles.copyDirectory(originalDirectory, copyDirectory, dir -> {
+                    final String name = dir.getFileName().toString();
                     // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
+                    if (name.equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                        return true;
                     }
-
                     // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && VanillaWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
-
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final String fileName = file.getFileName().toString();
+                    return isDefaultWorld && this.isVanillaSubWorld(name);
+                }, file -> {
+                    final String name = file.getFileName().toString();
                     // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
-
-                    return FileVisitResult.CONTINUE;
+                    return name.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) || name.equals(Constants.World.LEVEL_DAT_OLD);
+                }, progress);
+            } catch (final IOException e) {
+                // Bail the whole deal if we hit IO problems!
+                try {
+                    WorldFiles.deleteDirectory(copyDirectory, new WorldFiles.Progress(String.format("Cleaning up failed copy of '%s'", copyKey)));
+                } catch (final IOException ignore) {
                 }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
-            try {
-                Files.deleteIfExists(copyDirectory);
-            } catch (final IOException ignore) {
+                throw e;
             }
+            progress.complete();
 
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
-        }
-
-        final Path dimensionTemplate = this.getDataPackFile(key);
-        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
-
-        try {
             Files.createDirectories(copiedDimensionTemplate.getParent());
             Files.copy(dimensionTemplate, copiedDimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
 
-        final JsonObject fixedObject;
-        try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
-            final JsonParser parser = new JsonParser();
-            final JsonElement element = parser.parse(reader);
+            final JsonObject root;
+            try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
+                final JsonParser parser = new JsonParser();
+                root = parser.parse(reader).getAsJsonObject();
+            }
 
-            final JsonObject root = element.getAsJsonObject();
             final JsonObject spongeData = root.getAsJsonObject("#sponge");
             spongeData.remove("unique_id");
-            fixedObject = root;
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
 
-        if (fixedObject != null) {
             try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
-                writer.write(fixedObject.toString());
-            } catch (final IOException e) {
-                FutureUtil.completedWithException(e);
+                writer.write(root.toString());
             }
+        }, key, copyKey);
+
+        if (loadedWorld != null) {
+            future.whenComplete((r, t) -> this.server.execute(() -> {
+                VanillaWorldManager.releaseWrites(workers);
+                loadedWorld.noSave = disableLevelSaving;
+            }));
         }
 
-        return CompletableFuture.completedFuture(true);
+        return future;
+    }
+
+    /**
+     * Gets the workers which write the region files of the given world, for
+     * chunks and points of interest.
+     */
+    private static List<IOWorker> regionWorkers(final ServerLevel world) {
+        return ImmutableList.of(
+                ((ChunkStorageAccessor) world.getChunkSource().chunkMap).accessor$worker(),
+                ((SectionStorageAccessor) world.getPoiManager()).accessor$worker()
+        );
+    }
+
+    private static void releaseWrites(final List<IOWorker> workers) {
+        for (final IOWorker worker : workers) {
+            ((IOWorkerBridge) worker).bridge$releaseWrites();
+        }
     }
 
     @Override
@@ -751,11 +791,26 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.markInTransit(key, movedKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        try {
+            return this.moveWorld0(key, movedKey, registryKey);
+        } catch (final RuntimeException e) {
+            this.clearInTransit(key, movedKey);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Boolean> moveWorld0(final ResourceKey key, final ResourceKey movedKey,
+            final net.minecraft.resources.ResourceKey<Level> registryKey) {
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             try {
                 this.unloadWorld0(loadedWorld);
             } catch (final IOException e) {
+                this.clearInTransit(key, movedKey);
                 return FutureUtil.completedWithException(e);
             }
         }
@@ -770,14 +825,7 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final String moveDirectoryName = this.getDirectoryName(movedKey);
 
         final Path moveDirectory = isVanillaMoveWorld ? this.defaultWorldDirectory
-                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(key.namespace()).resolve(key.value());
-
-        try {
-            Files.createDirectories(moveDirectory);
-            Files.move(originalDirectory, moveDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(movedKey.namespace()).resolve(movedKey.value());
 
         final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key
                 .namespace()).resolve(key.value() + ".conf");
@@ -785,24 +833,22 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final Path copiedConfigFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds")
                 .resolve(movedKey.namespace()).resolve(movedKey.value() + ".conf");
 
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
         final Path copiedDimensionTemplate = this.getDataPackFile(movedKey);
 
-        try {
+        return this.runInTransit(() -> {
+            final WorldFiles.Progress progress = new WorldFiles.Progress(String.format("Moving world '%s' to '%s'", key, movedKey));
+            WorldFiles.moveDirectory(originalDirectory, moveDirectory, progress);
+            progress.complete();
+
+            if (Files.exists(configFile)) {
+                Files.createDirectories(copiedConfigFile.getParent());
+                Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
             Files.createDirectories(copiedDimensionTemplate.getParent());
             Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+        }, key, movedKey);
     }
 
     @Override
@@ -817,6 +863,20 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.markInTransit(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        try {
+            return this.deleteWorld0(key, registryKey);
+        } catch (final RuntimeException e) {
+            this.clearInTransit(key);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Boolean> deleteWorld0(final ResourceKey key,
+            final net.minecraft.resources.ResourceKey<Level> registryKey) {
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             final boolean disableLevelSaving = loadedWorld.noSave;
@@ -825,6 +885,7 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
                 this.unloadWorld0(loadedWorld);
             } catch (final IOException e) {
                 loadedWorld.noSave = disableLevelSaving;
+                this.clearInTransit(key);
                 return FutureUtil.completedWithException(e);
             }
         }
@@ -834,34 +895,83 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
 
         final Path directory = isVanillaWorld ? this.defaultWorldDirectory.resolve(directoryName) : this.customWorldsDirectory.resolve(key.namespace()).resolve(key.value());
 
-        if (Files.exists(directory)) {
-            try {
-                for (final Path path : Files.walk(directory).sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
-                    Files.deleteIfExists(path);
+        final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key.namespace())
+            .resolve(key.value() + ".conf");
+
+        final Path dimensionTemplate = this.getDataPackFile(key);
+
+        return this.runInTransit(() -> {
+            final WorldFiles.Progress progress = new WorldFiles.Progress(String.format("Deleting world '%s'", key));
+            WorldFiles.deleteDirectory(directory, progress);
+            progress.complete();
+
+            Files.deleteIfExists(configFile);
+            Files.deleteIfExists(dimensionTemplate);
+        }, key);
+    }
+
+    private boolean markInTransit(final ResourceKey... keys) {
+        synchronized (this.worldsInTransit) {
+            for (final ResourceKey key : keys) {
+                if (this.worldsInTransit.contains(key)) {
+                    return false;
                 }
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
             }
+            Collections.addAll(this.worldsInTransit, keys);
+            return true;
         }
+    }
 
-        final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key.namespace())
-            .resolve(key.value() + ".conf");
+    private void clearInTransit(final ResourceKey... keys) {
+        synchronized (this.worldsInTransit) {
+            for (final ResourceKey key : keys) {
+                this.worldsInTransit.remove(key);
+            }
+        }
+    }
 
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
+    private boolean isInTransit(final ResourceKey key) {
+        synchronized (this.worldsInTransit) {
+            return this.worldsInTransit.contains(key);
         }
+    }
 
-        final Path dimensionTemplate = this.getDataPackFile(key);
+    /**
+     * Runs the given file operation on the world I/O executor, releasing the
+     * given keys once it finished, whether or not it succeeded.
+     */
+    private CompletableFuture<Boolean> runInTransit(final FileOperation operation, final ResourceKey... keys) {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        this.ioExecutor.execute(() -> {
+            try {
+                operation.run();
+            } catch (final Throwable t) {
+                this.clearInTransit(keys);
+                future.completeExceptionally(t);
+                return;
+            }
+            this.clearInTransit(keys);
+            future.complete(true);
+        });
+        return future;
+    }
 
+    @Override
+    public void shutdown() {
+        this.ioExecutor.shutdown();
         try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
+            if (!this.ioExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                SpongeCommon.logger().warn("Timed out waiting for world copy, move and delete operations to complete");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+    }
 
-        return CompletableFuture.completedFuture(true);
+    @FunctionalInterface
+    private interface FileOperation {
+
+        void run() throws IOException;
     }
 
     @Override
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.world;
+
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Blocking file operations on world directories, meant to be run off of the
+ * server thread. Each operation logs its progress periodically so that long
+ * running copies of large worlds remain visible to server operators.
+ */
+final class WorldFiles {
+
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    static void copyDirectory(final Path source, final Path target, final Predicate<Path> skipDirectory, final Predicate<Path> skipFile,
+            final Progress progress) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(source) && skipDirectory.test(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                if (skipFile.test(file)) {
+                    return FileVisitResult.CONTINUE;
+                }
+
+                // Region files are rewritten in place, so hard links would leak writes between the two worlds. Files#copy is left
+                // to pick the cheapest copy the platform offers (in-kernel copies and clones on copy-on-write filesystems).
+                Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
+                        StandardCopyOption.REPLACE_EXISTING);
+                progress.file(attrs.size());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    static void moveDirectory(final Path source, final Path target, final Progress progress) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        } catch (final AtomicMoveNotSupportedException ignored) {
+            // Different file stores, fall back to copying and deleting
+        }
+
+        WorldFiles.copyDirectory(source, target, p -> false, p -> false, progress);
+        WorldFiles.deleteDirectory(source, progress);
+    }
+
+    static void deleteDirectory(final Path directory, final Progress progress) throws IOException {
+        if (Files.notExists(directory)) {
+            return;
+        }
+
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                Files.deleteIfExists(file);
+                progress.file(attrs.size());
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+                if (exc != null) {
+                    throw exc;
+                }
+                Files.deleteIfExists(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    static final class Progress {
+
+        private final String description;
+        private final long start = System.nanoTime();
+        private long lastReport = this.start;
+        private long files;
+        private long bytes;
+
+        Progress(final String description) {
+            this.description = description;
+        }
+
+        void file(final long size) {
+            this.files++;
+            this.bytes += size;
+
+            final long now = System.nanoTime();
+            if (now - this.lastReport >= WorldFiles.PROGRESS_INTERVAL) {
+                this.lastReport = now;
+                SpongeCommon.logger().info("{}: {} files ({} MiB) processed so far...", this.description, this.files, this.bytes >> 20);
+            }
+        }
+
+        void complete() {
+            SpongeCommon.logger().info("{}: completed, {} files ({} MiB) in {} ms.", this.description, this.files, this.bytes >> 20,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.start));
+        }
+    }
+
+    private WorldFiles() {
+    }
+}